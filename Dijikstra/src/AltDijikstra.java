@@ -0,0 +1,176 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Class to answer point to point queries with the ALT search.
+ * ALT is A* search with landmarks and the triangle inequality, the
+ * queue key of a vertex is its cost from the source plus a lower bound
+ * of its cost to the target taken from the landmark tables. The bound
+ * never overestimates and is consistent on undirected graphs, so the
+ * target is settled with its shortest path cost while the search is
+ * pulled towards it and settles far fewer vertices than Dijikstra.
+ * Directed graphs are rejected, the bound does not hold for them.
+ * Only the vertices touched by a query are reset before the next one.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class AltDijikstra {
+
+    /**
+     * Static String for Algorithm exception.
+     */
+    private static final String ALGO_EXCEPTION = "ALT dijikstra algorithm exception";
+    private static final String DIRECTED_GRAPH = "ALT search needs an undirected graph";
+
+
+    /**
+     * Constructor used to answer queries with a fibonacci heap.
+     * @param g undirected graph snapshot on which queries are run
+     * @param t landmark tables of the graph
+     */
+    public AltDijikstra(ICsrGraph g, LandmarkTable t) {
+        this(g, t, QueueType.FIBONACCI);
+    }
+
+
+    /**
+     * Constructor used to answer queries with the given queue type.
+     * @param g undirected graph snapshot on which queries are run
+     * @param t landmark tables of the graph
+     * @param type type of priority queue to use
+     */
+    public AltDijikstra(ICsrGraph g, LandmarkTable t, QueueType type) {
+        if (g.isDirected()) {
+            throw new IllegalArgumentException(DIRECTED_GRAPH);
+        }
+        int n = g.getNumberOfVertices();
+        if (t.getNumberOfVertices() != n) {
+            throw new IllegalArgumentException("Landmark table does not belong to the graph");
+        }
+        this.myGraph = g;
+        this.landmarks = t;
+        this.queue = type.create(n);
+        this.pathCosts = new int[n];
+        for (int i = 0; i < n; i++) {
+            this.pathCosts[i] = DijikstraEngine.INFINITY;
+        }
+        this.potential = new int[n];
+        this.touched = new int[n];
+        this.touchedCount = 0;
+        this.settledCount = 0;
+    }
+
+
+    /**
+     * Graph Object.
+     */
+    private ICsrGraph myGraph;
+    /**
+     * Landmark tables of the graph.
+     */
+    private LandmarkTable landmarks;
+    /**
+     * Priority queue keyed by cost plus lower bound.
+     */
+    private DecreaseKeyQueue queue;
+    /**
+     * Cost of path from the source, INFINITY when not reached.
+     */
+    private int[] pathCosts;
+    /**
+     * Lower bound of the cost to the target of every touched vertex.
+     */
+    private int[] potential;
+    /**
+     * Vertices reached by the last query.
+     */
+    private int[] touched;
+    /**
+     * Number of vertices in touched.
+     */
+    private int touchedCount;
+    /**
+     * Number of vertices settled by the last query.
+     */
+    private int settledCount;
+
+
+    /**
+     * getter for the number of vertices settled by the last query.
+     * @return settled vertices
+     */
+    public final int getSettledCount() {
+        return this.settledCount;
+    }
+
+
+    /**
+     * Computes the cost of the shortest path between two vertices.
+     * @param source start vertex of the path
+     * @param target end vertex of the path
+     * @return cost of the shortest path, DijikstraEngine.INFINITY when
+     * the target is not reachable
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final int query(final int source, final int target) throws Exception {
+        DecreaseKeyQueue q = this.queue;
+        ICsrGraph g = this.myGraph;
+        LandmarkTable t = this.landmarks;
+        int[] costs = this.pathCosts;
+        int[] bound = this.potential;
+        for (int i = 0; i < this.touchedCount; i++) {
+            costs[this.touched[i]] = DijikstraEngine.INFINITY;
+        }
+        this.touchedCount = 0;
+        this.settledCount = 0;
+        q.clear();
+
+        bound[source] = t.lowerBound(source, target);
+        if (bound[source] == DijikstraEngine.INFINITY) {
+            return DijikstraEngine.INFINITY;
+        }
+        costs[source] = 0;
+        this.touched[this.touchedCount++] = source;
+        q.insert(source, bound[source]);
+        while (!q.isHeapEmpty()) {
+            int u = q.removeMin();
+            if (u < 0) {
+                throw new Exception(ALGO_EXCEPTION);
+            }
+            this.settledCount++;
+            if (u == target) {
+                return costs[target];
+            }
+            int base = costs[u];
+            for (int e = g.edgeBegin(u); e < g.edgeEnd(u); e++) {
+                int v = g.edgeTarget(e);
+                int toReach = base + g.edgeCost(e);
+                if (toReach < 0 || toReach >= costs[v]) {
+                    continue;
+                }
+                if (costs[v] == DijikstraEngine.INFINITY) {
+                    bound[v] = t.lowerBound(v, target);
+                    if (bound[v] == DijikstraEngine.INFINITY) {
+                        continue;
+                    }
+                    this.touched[this.touchedCount++] = v;
+                }
+                costs[v] = toReach;
+                int key = toReach + bound[v];
+                if (key < 0) {
+                    //Paths through v cost more than the int range
+                    continue;
+                }
+                if (q.contains(v)) {
+                    q.decreaseKey(v, key);
+                } else {
+                    q.insert(v, key);
+                }
+            }
+        }
+        return DijikstraEngine.INFINITY;
+    }
+}
@@ -0,0 +1,231 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.Arrays;
+
+/**
+ * Class to run the shortest path algorithm from up to 64 sources at once.
+ * The costs of all sources are kept next to each other for every
+ * vertex, the cost of vertex v from source j is at v * batch + j, so
+ * one scan of the edges of v relaxes it for every source and the inner
+ * loop walks two short int arrays side by side.
+ * Every vertex has a dirty mask, one bit per source whose cost of the
+ * vertex was lowered since the vertex was last scanned. The vertex with
+ * the lowest dirty cost is scanned next, so the searches advance in
+ * lockstep in cost order. A vertex can be scanned again when one of its
+ * costs is lowered later (label correcting), the result is the same as
+ * one run per source.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class BatchedDijikstraEngine {
+
+    /**
+     * STATIC int for the largest batch, one bit of a long per source.
+     */
+    public static final int MAX_BATCH = Long.SIZE;
+    /**
+     * Static String for Algorithm exception.
+     */
+    private static final String ALGO_EXCEPTION = "Batched dijikstra algorithm exception";
+
+
+    /**
+     * Constructor used to initialize the engine.
+     * @param g graph snapshot on which algorithm is run
+     * @param batchSize number of sources run together, 1 to 64
+     */
+    public BatchedDijikstraEngine(ICsrGraph g, int batchSize) {
+        if (batchSize <= 0 || batchSize > MAX_BATCH) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH);
+        }
+        int n = g.getNumberOfVertices();
+        if ((long) n * batchSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Batch is too large for the graph");
+        }
+        this.myGraph = g;
+        this.batch = batchSize;
+        this.costs = new int[n * batchSize];
+        this.dirty = new long[n];
+        this.keyValue = new int[n];
+        this.queue = new IntFibonacciHeap(n);
+        this.scanCount = 0;
+    }
+
+
+    /**
+     * Graph Object.
+     */
+    private ICsrGraph myGraph;
+    /**
+     * Number of sources run together.
+     */
+    private int batch;
+    /**
+     * Cost of every vertex from every source, v * batch + j.
+     */
+    private int[] costs;
+    /**
+     * Sources whose cost of the vertex was lowered since its last scan.
+     */
+    private long[] dirty;
+    /**
+     * Lowest dirty cost of every queued vertex.
+     */
+    private int[] keyValue;
+    /**
+     * Queue of the vertices with a dirty cost.
+     */
+    private IntFibonacciHeap queue;
+    /**
+     * Number of edge list scans of the last run.
+     */
+    private long scanCount;
+
+
+    /**
+     * getter for the batch size.
+     * @return number of sources run together
+     */
+    public final int getBatchSize() {
+        return this.batch;
+    }
+
+
+    /**
+     * getter for the number of edge list scans of the last run.
+     * One run per source scans every reachable vertex once per source.
+     * @return edge list scans
+     */
+    public final long getScanCount() {
+        return this.scanCount;
+    }
+
+
+    /**
+     * getter for the cost of a vertex from one source of the last run.
+     * @param j index of the source in the batch
+     * @param v vertex number
+     * @return cost of path, DijikstraEngine.INFINITY when not reachable
+     */
+    public final int getDistance(final int j, final int v) {
+        return this.costs[v * this.batch + j];
+    }
+
+
+    /**
+     * Copies the costs from one source of the last run into a row.
+     * @param j index of the source in the batch
+     * @param row array of at least n ints receiving the costs
+     */
+    public final void getDistances(final int j, final int[] row) {
+        int b = this.batch;
+        int[] c = this.costs;
+        for (int v = 0, p = j; v < row.length && p < c.length; v++, p += b) {
+            row[v] = c[p];
+        }
+    }
+
+
+    /**
+     * Runs the sources in batches and streams one row per source.
+     * @param sources source nodes in the graph
+     * @param sink receiver of the rows, called from this thread only
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void runSources(final int[] sources, final RowSink sink)
+            throws Exception {
+        int[] row = new int[this.myGraph.getNumberOfVertices()];
+        for (int from = 0; from < sources.length; from += this.batch) {
+            int[] part = Arrays.copyOfRange(sources, from, Math.min(from + this.batch, sources.length));
+            run(part);
+            for (int j = 0; j < part.length; j++) {
+                getDistances(j, row);
+                sink.acceptRow(part[j], row);
+            }
+        }
+    }
+
+
+    /**
+     * Runs the algorithm from all sources of a batch together.
+     * @param sources source nodes, at most the batch size
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void run(final int[] sources) throws Exception {
+        if (sources.length > this.batch) {
+            throw new IllegalArgumentException("More sources than the batch size");
+        }
+        ICsrGraph g = this.myGraph;
+        int b = this.batch;
+        int[] c = this.costs;
+        long[] mask = this.dirty;
+        int[] key = this.keyValue;
+        IntFibonacciHeap q = this.queue;
+        Arrays.fill(c, DijikstraEngine.INFINITY);
+        Arrays.fill(mask, 0L);
+        q.clear();
+        this.scanCount = 0;
+        for (int j = 0; j < sources.length; j++) {
+            int s = sources[j];
+            c[s * b + j] = 0;
+            mask[s] |= 1L << j;
+            if (!q.contains(s)) {
+                key[s] = 0;
+                q.insert(s, 0);
+            }
+        }
+        long all = (sources.length == Long.SIZE) ? -1L : (1L << sources.length) - 1;
+        while (!q.isHeapEmpty()) {
+            int u = q.removeMin();
+            if (u < 0) {
+                throw new Exception(ALGO_EXCEPTION);
+            }
+            long active = mask[u];
+            mask[u] = 0L;
+            this.scanCount++;
+            int ub = u * b;
+            for (int e = g.edgeBegin(u); e < g.edgeEnd(u); e++) {
+                int v = g.edgeTarget(e);
+                int cost = g.edgeCost(e);
+                int vb = v * b;
+                long lowered = 0L;
+                int lowest = DijikstraEngine.INFINITY;
+                if (active == all) {
+                    for (int j = 0; j < sources.length; j++) {
+                        int toReach = c[ub + j] + cost;
+                        if (toReach >= 0 && toReach < c[vb + j]) {
+                            c[vb + j] = toReach;
+                            lowered |= 1L << j;
+                            lowest = Math.min(lowest, toReach);
+                        }
+                    }
+                } else {
+                    for (long bits = active; bits != 0L; bits &= bits - 1) {
+                        int j = Long.numberOfTrailingZeros(bits);
+                        int toReach = c[ub + j] + cost;
+                        if (toReach >= 0 && toReach < c[vb + j]) {
+                            c[vb + j] = toReach;
+                            lowered |= 1L << j;
+                            lowest = Math.min(lowest, toReach);
+                        }
+                    }
+                }
+                if (lowered == 0L) {
+                    continue;
+                }
+                mask[v] |= lowered;
+                if (!q.contains(v)) {
+                    key[v] = lowest;
+                    q.insert(v, lowest);
+                } else if (lowest < key[v]) {
+                    key[v] = lowest;
+                    q.decreaseKey(v, lowest);
+                }
+            }
+        }
+    }
+}
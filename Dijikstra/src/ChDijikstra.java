@@ -0,0 +1,206 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Class to answer point to point queries on a contraction hierarchy.
+ * A forward search from the source and a backward search from the
+ * target both follow upward edges only and take turns settling a
+ * vertex. The answer is the cheapest vertex reached by both searches,
+ * a search stops once its next vertex costs at least that much.
+ * A vertex that a higher vertex already reaches more cheaply is
+ * stalled, its edges are not relaxed (stall on demand).
+ * The upward searches settle a few hundred vertices even on large
+ * road like graphs, and only the touched vertices are reset.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class ChDijikstra {
+
+    /**
+     * Static String for Algorithm exception.
+     */
+    private static final String ALGO_EXCEPTION = "CH dijikstra algorithm exception";
+
+
+    /**
+     * Constructor used to answer queries with fibonacci heaps.
+     * @param h contraction hierarchy of the graph
+     */
+    public ChDijikstra(ContractionHierarchy h) {
+        this(h, QueueType.FIBONACCI);
+    }
+
+
+    /**
+     * Constructor used to answer queries with the given queue type.
+     * @param h contraction hierarchy of the graph
+     * @param type type of priority queue used by both searches
+     */
+    public ChDijikstra(ContractionHierarchy h, QueueType type) {
+        int n = h.getNumberOfVertices();
+        this.hierarchy = h;
+        this.forwardQueue = type.create(n);
+        this.backwardQueue = type.create(n);
+        this.forwardCosts = new int[n];
+        this.backwardCosts = new int[n];
+        for (int i = 0; i < n; i++) {
+            this.forwardCosts[i] = DijikstraEngine.INFINITY;
+            this.backwardCosts[i] = DijikstraEngine.INFINITY;
+        }
+        this.touched = new int[2 * n];
+        this.touchedCount = 0;
+        this.settledCount = 0;
+        this.meetingCost = DijikstraEngine.INFINITY;
+    }
+
+
+    /**
+     * Contraction hierarchy of the graph.
+     */
+    private ContractionHierarchy hierarchy;
+    /**
+     * Queue of the forward search.
+     */
+    private DecreaseKeyQueue forwardQueue;
+    /**
+     * Queue of the backward search.
+     */
+    private DecreaseKeyQueue backwardQueue;
+    /**
+     * Cost of path from the source, INFINITY when not reached.
+     */
+    private int[] forwardCosts;
+    /**
+     * Cost of path to the target, INFINITY when not reached.
+     */
+    private int[] backwardCosts;
+    /**
+     * Vertices reached by either search of the last query.
+     */
+    private int[] touched;
+    /**
+     * Number of vertices in touched.
+     */
+    private int touchedCount;
+    /**
+     * Number of vertices settled by both searches of the last query.
+     */
+    private int settledCount;
+    /**
+     * Best meeting cost seen by the last call of settle.
+     */
+    private long meetingCost;
+
+
+    /**
+     * getter for the number of vertices settled by the last query.
+     * @return vertices settled by the forward and backward search
+     */
+    public final int getSettledCount() {
+        return this.settledCount;
+    }
+
+
+    /**
+     * Computes the cost of the shortest path between two vertices.
+     * @param source start vertex of the path
+     * @param target end vertex of the path
+     * @return cost of the shortest path, DijikstraEngine.INFINITY when
+     * the target is not reachable
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final int query(final int source, final int target) throws Exception {
+        for (int i = 0; i < this.touchedCount; i++) {
+            this.forwardCosts[this.touched[i]] = DijikstraEngine.INFINITY;
+            this.backwardCosts[this.touched[i]] = DijikstraEngine.INFINITY;
+        }
+        this.touchedCount = 0;
+        this.settledCount = 0;
+        this.forwardQueue.clear();
+        this.backwardQueue.clear();
+
+        this.forwardCosts[source] = 0;
+        this.backwardCosts[target] = 0;
+        this.touched[this.touchedCount++] = source;
+        this.touched[this.touchedCount++] = target;
+        this.forwardQueue.insert(source, 0);
+        this.backwardQueue.insert(target, 0);
+
+        long best = (source == target) ? 0 : DijikstraEngine.INFINITY;
+        boolean forwardDone = false;
+        boolean backwardDone = false;
+        boolean forwardTurn = true;
+        while (!forwardDone || !backwardDone) {
+            if (forwardTurn && !forwardDone) {
+                forwardDone = !settle(this.forwardQueue, this.forwardCosts,
+                        this.backwardCosts, best);
+            } else if (!forwardTurn && !backwardDone) {
+                backwardDone = !settle(this.backwardQueue, this.backwardCosts,
+                        this.forwardCosts, best);
+            }
+            best = Math.min(best, this.meetingCost);
+            forwardTurn = !forwardTurn;
+        }
+        return (int) best;
+    }
+
+
+    /**
+     * Settles the minimum vertex of one search and relaxes its upward
+     * edges. The cheapest meeting cost seen is left in meetingCost.
+     * @param q queue of the search
+     * @param costs path costs of the search
+     * @param otherCosts path costs of the other search
+     * @param best cheapest meeting cost found so far
+     * @return false when the search is finished
+     * @throws Exception when encountered with exceptional cases
+     */
+    private boolean settle(final DecreaseKeyQueue q, final int[] costs,
+            final int[] otherCosts, final long best) throws Exception {
+        this.meetingCost = DijikstraEngine.INFINITY;
+        if (q.isHeapEmpty()) {
+            return false;
+        }
+        int u = q.removeMin();
+        if (u < 0) {
+            throw new Exception(ALGO_EXCEPTION);
+        }
+        int base = costs[u];
+        if (base >= best) {
+            return false;
+        }
+        this.settledCount++;
+        if (otherCosts[u] != DijikstraEngine.INFINITY) {
+            this.meetingCost = (long) base + otherCosts[u];
+        }
+        ContractionHierarchy h = this.hierarchy;
+        for (int e = h.upBegin(u); e < h.upEnd(u); e++) {
+            int w = costs[h.upTarget(e)];
+            if (w != DijikstraEngine.INFINITY && (long) w + h.upCost(e) < base) {
+                //Stalled, a higher vertex reaches u cheaper so no
+                //shortest path goes up through u
+                return true;
+            }
+        }
+        for (int e = h.upBegin(u); e < h.upEnd(u); e++) {
+            int v = h.upTarget(e);
+            int toReach = base + h.upCost(e);
+            if (toReach < 0 || toReach >= costs[v]) {
+                continue;
+            }
+            if (costs[v] == DijikstraEngine.INFINITY) {
+                if (otherCosts[v] == DijikstraEngine.INFINITY) {
+                    this.touched[this.touchedCount++] = v;
+                }
+                q.insert(v, toReach);
+            } else {
+                q.decreaseKey(v, toReach);
+            }
+            costs[v] = toReach;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,448 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.Arrays;
+
+/**
+ * Class to build a contraction hierarchy from a graph.
+ * The vertices are contracted one by one in the order of their
+ * priority, the edge difference (shortcuts added minus edges removed)
+ * plus the number of neighbors already contracted. Contracting a vertex
+ * removes it from the remaining graph and adds a shortcut between two
+ * of its neighbors when a local witness search finds no path between
+ * them that avoids the vertex and is as cheap as the path through it.
+ * The priorities are kept in a FibonacciHeap, they are recomputed for
+ * the neighbors after every contraction and lazily checked again when
+ * a vertex reaches the top of the heap.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class ContractionBuilder {
+
+    /**
+     * STATIC int for the most vertices settled by one witness search.
+     * A search stopped early may add a shortcut that is not needed,
+     * which costs space but never a wrong query answer.
+     */
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+    /**
+     * STATIC int for the settle limit of the witness searches that only
+     * estimate the priority of a vertex.
+     */
+    private static final int PRIORITY_SETTLE_LIMIT = 25;
+    /**
+     * STATIC int for the initial capacity of the edge lists.
+     */
+    private static final int DEFAULT_CAPACITY = 4;
+    /**
+     * STATIC String for directed graph exception.
+     */
+    private static final String DIRECTED_GRAPH = "Contraction hierarchy needs an undirected graph";
+
+
+    /**
+     * Constructor used to copy the graph into the contraction state.
+     * Parallel edges are merged into the cheapest one. Directed graphs
+     * are rejected, the edges of both end points are merged as one.
+     * @param g undirected graph snapshot
+     */
+    public ContractionBuilder(ICsrGraph g) {
+        if (g.isDirected()) {
+            throw new IllegalArgumentException(DIRECTED_GRAPH);
+        }
+        int n = g.getNumberOfVertices();
+        this.numberOfVertices = n;
+        this.neighbors = new int[n][];
+        this.neighborCosts = new int[n][];
+        this.degree = new int[n];
+        this.deletedNeighbors = new int[n];
+        this.rank = new int[n];
+        this.contracted = new boolean[n];
+        this.witnessQueue = QueueType.DARY.create(n);
+        this.witnessCosts = new int[n];
+        Arrays.fill(this.witnessCosts, DijikstraEngine.INFINITY);
+        this.witnessTouched = new int[n];
+        this.witnessTouchedCount = 0;
+        this.targetMark = new int[n];
+        this.mark = 0;
+        int[] position = new int[n];
+        Arrays.fill(position, -1);
+        for (int v = 0; v < n; v++) {
+            int size = 0;
+            int[] nb = new int[Math.max(g.edgeEnd(v) - g.edgeBegin(v), DEFAULT_CAPACITY)];
+            int[] nc = new int[nb.length];
+            for (int e = g.edgeBegin(v); e < g.edgeEnd(v); e++) {
+                int w = g.edgeTarget(e);
+                if (position[w] >= 0) {
+                    nc[position[w]] = Math.min(nc[position[w]], g.edgeCost(e));
+                } else {
+                    position[w] = size;
+                    nb[size] = w;
+                    nc[size] = g.edgeCost(e);
+                    size++;
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                position[nb[i]] = -1;
+            }
+            this.neighbors[v] = nb;
+            this.neighborCosts[v] = nc;
+            this.degree[v] = size;
+        }
+        this.upSources = new int[g.getNumberOfHalfEdges() / 2 + DEFAULT_CAPACITY];
+        this.upTargets = new int[this.upSources.length];
+        this.upCosts = new int[this.upSources.length];
+        this.upSize = 0;
+        this.numberOfShortcuts = 0;
+    }
+
+
+    /**
+     * Number of vertices of the graph.
+     */
+    private final int numberOfVertices;
+    /**
+     * Remaining neighbors of every vertex not yet contracted.
+     */
+    private int[][] neighbors;
+    /**
+     * Cost of the edges to the remaining neighbors.
+     */
+    private int[][] neighborCosts;
+    /**
+     * Number of remaining neighbors of every vertex.
+     */
+    private int[] degree;
+    /**
+     * Number of neighbors of every vertex already contracted.
+     */
+    private int[] deletedNeighbors;
+    /**
+     * Contraction order of every vertex.
+     */
+    private int[] rank;
+    /**
+     * Whether the vertex is contracted.
+     */
+    private boolean[] contracted;
+    /**
+     * Queue of the witness searches. The searches are small and run
+     * very often, a d-ary heap has the lowest constant for them.
+     */
+    private DecreaseKeyQueue witnessQueue;
+    /**
+     * Cost of path from the start of the last witness search.
+     */
+    private int[] witnessCosts;
+    /**
+     * Vertices reached by the last witness search.
+     */
+    private int[] witnessTouched;
+    /**
+     * Number of vertices in witnessTouched.
+     */
+    private int witnessTouchedCount;
+    /**
+     * Vertices carrying the current mark are targets of the witness search.
+     */
+    private int[] targetMark;
+    /**
+     * Mark of the current witness search.
+     */
+    private int mark;
+    /**
+     * Lower end point of every upward edge.
+     */
+    private int[] upSources;
+    /**
+     * Higher end point of every upward edge.
+     */
+    private int[] upTargets;
+    /**
+     * Cost of every upward edge.
+     */
+    private int[] upCosts;
+    /**
+     * Number of upward edges.
+     */
+    private int upSize;
+    /**
+     * Number of shortcuts added.
+     */
+    private int numberOfShortcuts;
+
+
+    /**
+     * Contracts all vertices and builds the hierarchy.
+     * @return the contraction hierarchy
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final ContractionHierarchy build() throws Exception {
+        int n = this.numberOfVertices;
+        FibonacciHeap order = new FibonacciHeap(n);
+        FibonacciHeap.Node[] handles = new FibonacciHeap.Node[n];
+        for (int v = 0; v < n; v++) {
+            handles[v] = order.insert(v, priority(v));
+        }
+        int next = 0;
+        while (!order.isHeapEmpty()) {
+            int v = order.removeMin().getNodeNumber();
+            handles[v] = null;
+            int p = priority(v);
+            if (!order.isHeapEmpty() && p > order.returnMin().getKeyValue()) {
+                //Priority went up since it was queued, try again later
+                handles[v] = order.insert(v, p);
+                continue;
+            }
+            contract(v, true);
+            this.rank[v] = next++;
+            int[] nb = this.neighbors[v];
+            for (int i = 0; i < this.degree[v]; i++) {
+                int u = nb[i];
+                int up = priority(u);
+                if (up < handles[u].getKeyValue()) {
+                    order.decreaseKey(handles[u], up);
+                } else if (up > handles[u].getKeyValue()) {
+                    order.deleteNode(handles[u]);
+                    handles[u] = order.insert(u, up);
+                }
+            }
+            this.neighbors[v] = null;
+            this.neighborCosts[v] = null;
+        }
+        return toHierarchy();
+    }
+
+
+    /**
+     * Priority of a vertex, the lower the earlier it is contracted.
+     * @param v vertex number
+     * @return edge difference plus the contracted neighbors
+     * @throws Exception when encountered with exceptional cases
+     */
+    private int priority(final int v) throws Exception {
+        return contract(v, false) - this.degree[v] + this.deletedNeighbors[v];
+    }
+
+
+    /**
+     * Finds the shortcuts needed to contract a vertex.
+     * For every neighbor u a witness search is run with v left out, a
+     * shortcut u - w is needed when it finds nothing cheaper than the
+     * path u - v - w. When apply is true the shortcuts are added and v
+     * is removed from the remaining graph.
+     * @param v vertex number
+     * @param apply true to contract the vertex, false to only count
+     * @return number of shortcuts needed
+     * @throws Exception when encountered with exceptional cases
+     */
+    private int contract(final int v, final boolean apply) throws Exception {
+        int d = this.degree[v];
+        int[] nb = this.neighbors[v];
+        int[] nc = this.neighborCosts[v];
+        this.contracted[v] = true;
+        int shortcuts = 0;
+        int settleLimit = apply ? WITNESS_SETTLE_LIMIT : PRIORITY_SETTLE_LIMIT;
+        for (int i = 0; i < d - 1; i++) {
+            int u = nb[i];
+            int maxCost = 0;
+            this.mark++;
+            for (int j = i + 1; j < d; j++) {
+                this.targetMark[nb[j]] = this.mark;
+                maxCost = Math.max(maxCost, nc[j]);
+            }
+            long limit = Math.min((long) nc[i] + maxCost, DijikstraEngine.INFINITY - 1L);
+            witnessSearch(u, (int) limit, settleLimit, d - 1 - i);
+            for (int j = i + 1; j < d; j++) {
+                int w = nb[j];
+                long via = (long) nc[i] + nc[j];
+                if (via < DijikstraEngine.INFINITY && this.witnessCosts[w] > via) {
+                    shortcuts++;
+                    if (apply) {
+                        addShortcut(u, w, (int) via);
+                    }
+                }
+            }
+        }
+        if (!apply) {
+            this.contracted[v] = false;
+            return shortcuts;
+        }
+        for (int i = 0; i < d; i++) {
+            int u = nb[i];
+            removeNeighbor(u, v);
+            this.deletedNeighbors[u]++;
+            addUpEdge(v, u, nc[i]);
+        }
+        return shortcuts;
+    }
+
+
+    /**
+     * Dijikstra search in the remaining graph up to a cost limit.
+     * Contracted vertices are skipped, so the vertex being contracted
+     * is left out while it is marked as contracted. The search also
+     * stops once all vertices carrying the current mark are settled.
+     * @param s start vertex
+     * @param limit largest cost of interest
+     * @param settleLimit most vertices to settle
+     * @param targets number of marked vertices
+     * @throws Exception when encountered with exceptional cases
+     */
+    private void witnessSearch(final int s, final int limit,
+            final int settleLimit, final int targets) throws Exception {
+        int[] costs = this.witnessCosts;
+        DecreaseKeyQueue q = this.witnessQueue;
+        for (int i = 0; i < this.witnessTouchedCount; i++) {
+            costs[this.witnessTouched[i]] = DijikstraEngine.INFINITY;
+        }
+        this.witnessTouchedCount = 0;
+        q.clear();
+        costs[s] = 0;
+        this.witnessTouched[this.witnessTouchedCount++] = s;
+        q.insert(s, 0);
+        int settled = 0;
+        int remaining = targets;
+        while (!q.isHeapEmpty() && settled < settleLimit && remaining > 0) {
+            int u = q.removeMin();
+            if (costs[u] > limit) {
+                break;
+            }
+            settled++;
+            if (this.targetMark[u] == this.mark) {
+                remaining--;
+            }
+            int[] nb = this.neighbors[u];
+            int[] nc = this.neighborCosts[u];
+            for (int i = 0; i < this.degree[u]; i++) {
+                int w = nb[i];
+                if (this.contracted[w]) {
+                    continue;
+                }
+                int toReach = costs[u] + nc[i];
+                if (toReach < 0 || toReach >= costs[w]) {
+                    continue;
+                }
+                if (costs[w] == DijikstraEngine.INFINITY) {
+                    this.witnessTouched[this.witnessTouchedCount++] = w;
+                    q.insert(w, toReach);
+                } else {
+                    q.decreaseKey(w, toReach);
+                }
+                costs[w] = toReach;
+            }
+        }
+    }
+
+
+    /**
+     * Adds a shortcut between two remaining vertices, or lowers the
+     * cost of the edge already between them.
+     * @param u first end point
+     * @param w second end point
+     * @param cost cost of the shortcut
+     */
+    private void addShortcut(final int u, final int w, final int cost) {
+        if (addOrLower(u, w, cost)) {
+            this.numberOfShortcuts++;
+        }
+        addOrLower(w, u, cost);
+    }
+
+
+    /**
+     * Adds an edge to the list of a vertex or lowers its cost.
+     * @param u vertex owning the list
+     * @param w neighbor vertex
+     * @param cost cost of the edge
+     * @return true if a new edge was added
+     */
+    private boolean addOrLower(final int u, final int w, final int cost) {
+        int[] nb = this.neighbors[u];
+        int d = this.degree[u];
+        for (int i = 0; i < d; i++) {
+            if (nb[i] == w) {
+                if (cost < this.neighborCosts[u][i]) {
+                    this.neighborCosts[u][i] = cost;
+                }
+                return false;
+            }
+        }
+        if (d == nb.length) {
+            this.neighbors[u] = Arrays.copyOf(nb, d * 2);
+            this.neighborCosts[u] = Arrays.copyOf(this.neighborCosts[u], d * 2);
+        }
+        this.neighbors[u][d] = w;
+        this.neighborCosts[u][d] = cost;
+        this.degree[u] = d + 1;
+        return true;
+    }
+
+
+    /**
+     * Removes a neighbor from the list of a vertex.
+     * @param u vertex owning the list
+     * @param w neighbor to remove
+     */
+    private void removeNeighbor(final int u, final int w) {
+        int[] nb = this.neighbors[u];
+        int last = this.degree[u] - 1;
+        for (int i = 0; i <= last; i++) {
+            if (nb[i] == w) {
+                nb[i] = nb[last];
+                this.neighborCosts[u][i] = this.neighborCosts[u][last];
+                this.degree[u] = last;
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Records an edge from a contracted vertex to a higher vertex.
+     * @param v contracted vertex
+     * @param u remaining neighbor
+     * @param cost cost of the edge
+     */
+    private void addUpEdge(final int v, final int u, final int cost) {
+        if (this.upSize == this.upSources.length) {
+            int c = this.upSize * 2;
+            this.upSources = Arrays.copyOf(this.upSources, c);
+            this.upTargets = Arrays.copyOf(this.upTargets, c);
+            this.upCosts = Arrays.copyOf(this.upCosts, c);
+        }
+        this.upSources[this.upSize] = v;
+        this.upTargets[this.upSize] = u;
+        this.upCosts[this.upSize] = cost;
+        this.upSize++;
+    }
+
+
+    /**
+     * Sorts the upward edges by their lower end point into CSR arrays.
+     * @return the contraction hierarchy
+     */
+    private ContractionHierarchy toHierarchy() {
+        int n = this.numberOfVertices;
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < this.upSize; i++) {
+            offsets[this.upSources[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] position = Arrays.copyOf(offsets, n);
+        int[] targets = new int[this.upSize];
+        int[] costs = new int[this.upSize];
+        for (int i = 0; i < this.upSize; i++) {
+            int p = position[this.upSources[i]]++;
+            targets[p] = this.upTargets[i];
+            costs[p] = this.upCosts[i];
+        }
+        return new ContractionHierarchy(n, this.rank, offsets, targets, costs,
+                this.numberOfShortcuts);
+    }
+}
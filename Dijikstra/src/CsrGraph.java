@@ -0,0 +1,308 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable compressed sparse row (CSR) snapshot of a graph.
+ * The neighbors of vertex v are stored at the positions
+ * offsets[v] to offsets[v + 1] - 1 of the targets and costs arrays,
+ * so an edge scan is a sequential walk over two primitive arrays
+ * instead of a pointer chase through lists of Edge objects.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class CsrGraph implements IGraph, ICsrGraph {
+
+    /**
+     * STATIC String for modification exception.
+     */
+    private static final String IMMUTABLE_GRAPH = "CsrGraph is an immutable snapshot and cannot be modified";
+    /**
+     * Hold the number of vertices of the graph.
+     */
+    private final int numberOfVertices;
+    /**
+     * Start position of the neighbors of every vertex, size n + 1.
+     */
+    private final int[] offsets;
+    /**
+     * Neighbor vertex of every half edge.
+     */
+    private final int[] targets;
+    /**
+     * Cost of every half edge.
+     */
+    private final int[] costs;
+    /**
+     * Largest edge cost of the graph, 0 for a graph without edges.
+     */
+    private final int maxEdgeCost;
+    /**
+     * Whether every edge is an arc stored only at its first end point.
+     */
+    private final boolean directed;
+
+
+    /**
+     * Constructor that freezes an adjacency list graph into CSR form.
+     * @param g graph to take the snapshot of
+     */
+    public CsrGraph(final Graph g) {
+        this.numberOfVertices = g.getNumberOfVertices();
+        List<List<Edge>> adjacencyList = g.getAdjacencyList();
+        this.offsets = new int[this.numberOfVertices + 1];
+        for (int i = 0; i < this.numberOfVertices; i++) {
+            this.offsets[i + 1] = this.offsets[i] + adjacencyList.get(i).size();
+        }
+        this.targets = new int[this.offsets[this.numberOfVertices]];
+        this.costs = new int[this.offsets[this.numberOfVertices]];
+        for (int i = 0; i < this.numberOfVertices; i++) {
+            List<Edge> neighbors = adjacencyList.get(i);
+            int pos = this.offsets[i];
+            for (int j = 0; j < neighbors.size(); j++) {
+                Edge e = neighbors.get(j);
+                this.targets[pos] = e.getNeighborNumber();
+                this.costs[pos] = e.getEdgeCost();
+                pos++;
+            }
+        }
+        this.maxEdgeCost = maxCost(this.costs);
+        this.directed = false;
+    }
+
+
+    /**
+     * Constructor that wraps already built CSR arrays of an undirected
+     * graph.
+     * The arrays are taken over without copying.
+     * @param n number of vertices
+     * @param off start position of the neighbors of every vertex, size n + 1
+     * @param tgt neighbor vertex of every half edge
+     * @param cst cost of every half edge
+     */
+    public CsrGraph(final int n, final int[] off, final int[] tgt,
+            final int[] cst) {
+        this(n, off, tgt, cst, false);
+    }
+
+
+    /**
+     * Constructor that wraps already built CSR arrays.
+     * The arrays are taken over without copying.
+     * @param n number of vertices
+     * @param off start position of the neighbors of every vertex, size n + 1
+     * @param tgt neighbor vertex of every half edge
+     * @param cst cost of every half edge
+     * @param isDirected whether every edge is stored only at its first
+     * end point
+     */
+    public CsrGraph(final int n, final int[] off, final int[] tgt,
+            final int[] cst, final boolean isDirected) {
+        this.numberOfVertices = n;
+        this.offsets = off;
+        this.targets = tgt;
+        this.costs = cst;
+        this.maxEdgeCost = maxCost(cst);
+        this.directed = isDirected;
+    }
+
+
+    /**
+     * Largest value of a cost array.
+     * @param cst cost of every half edge
+     * @return the largest cost, 0 for an empty array
+     */
+    private static int maxCost(final int[] cst) {
+        int max = 0;
+        for (int i = 0; i < cst.length; i++) {
+            if (cst[i] > max) {
+                max = cst[i];
+            }
+        }
+        return max;
+    }
+
+
+    /**
+     * getter for number of vertices.
+     * @return number of vertices
+     */
+    @Override
+    public final int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+
+    /**
+     * getter for number of half edges.
+     * Every undirected edge is stored once for each of its end points.
+     * @return number of half edges
+     */
+    @Override
+    public final int getNumberOfHalfEdges() {
+        return this.targets.length;
+    }
+
+
+    /**
+     * getter for the largest edge cost.
+     * @return largest edge cost, 0 for a graph without edges
+     */
+    @Override
+    public final int getMaxEdgeCost() {
+        return this.maxEdgeCost;
+    }
+
+
+    /**
+     * Returns whether every edge is stored only at its first end point.
+     * @return true for a directed graph
+     */
+    @Override
+    public final boolean isDirected() {
+        return this.directed;
+    }
+
+
+    /**
+     * Position of the first half edge of a vertex.
+     * @param v vertex number
+     * @return index of the first half edge of v
+     */
+    @Override
+    public final int edgeBegin(final int v) {
+        return this.offsets[v];
+    }
+
+
+    /**
+     * Position after the last half edge of a vertex.
+     * @param v vertex number
+     * @return index one past the last half edge of v
+     */
+    @Override
+    public final int edgeEnd(final int v) {
+        return this.offsets[v + 1];
+    }
+
+
+    /**
+     * Neighbor vertex of a half edge.
+     * @param e half edge index
+     * @return neighbor vertex number
+     */
+    @Override
+    public final int edgeTarget(final int e) {
+        return this.targets[e];
+    }
+
+
+    /**
+     * Cost of a half edge.
+     * @param e half edge index
+     * @return cost of the edge
+     */
+    @Override
+    public final int edgeCost(final int e) {
+        return this.costs[e];
+    }
+
+
+    /**
+     * Check whether every vertex is reachable from the source.
+     * Iterative depth first search over primitive arrays so that it
+     * works for graphs with millions of vertices.
+     * @param s source vertex
+     * @return true when graph is properly connected.
+     */
+    @Override
+    public final boolean isConnected(final int s) {
+        boolean[] visited = new boolean[this.numberOfVertices];
+        int[] stck = new int[this.numberOfVertices];
+        int top = 0;
+        int visitedCount = 1;
+        visited[s] = true;
+        stck[top++] = s;
+        while (top > 0) {
+            int vertex = stck[--top];
+            for (int e = this.offsets[vertex]; e < this.offsets[vertex + 1]; e++) {
+                int v = this.targets[e];
+                if (!visited[v]) {
+                    visited[v] = true;
+                    visitedCount++;
+                    stck[top++] = v;
+                }
+            }
+        }
+        return visitedCount == this.numberOfVertices;
+    }
+
+
+    /**
+     * Not supported, the snapshot is immutable.
+     * @param v1 source vertex
+     * @param v2 destination vertex
+     * @param cost cost of the edge
+     * @return never returns
+     */
+    @Override
+    public final boolean addEdge(final short v1, final short v2,
+            final short cost) {
+        throw new UnsupportedOperationException(IMMUTABLE_GRAPH);
+    }
+
+
+    /**
+     * Not supported, the snapshot is immutable.
+     * @param source source vertex
+     * @param destination destination vertex
+     * @return never returns
+     */
+    @Override
+    public final boolean removeEdge(final short source,
+            final short destination) {
+        throw new UnsupportedOperationException(IMMUTABLE_GRAPH);
+    }
+
+
+    /**
+     * Returns whether an edge is present in between edges.
+     * @param source source vertex
+     * @param dest destination vertex
+     * @return True is edge present or False if nor present
+     */
+    @Override
+    public final boolean isEdgePresent(final short source, final short dest) {
+        for (int e = this.offsets[source]; e < this.offsets[source + 1]; e++) {
+            if (this.targets[e] == dest) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Returns all the reachable neighbors of the given vertex.
+     * This materializes new Edge objects on every call and is kept only
+     * for IGraph compatibility, algorithms should walk the CSR arrays.
+     * @param source source vertex
+     * @return list of neighbors
+     */
+    @Override
+    public final List<Edge> reachableNeigbours(final short source) {
+        List<Edge> neighbors = new ArrayList<>(this.offsets[source + 1] - this.offsets[source]);
+        for (int e = this.offsets[source]; e < this.offsets[source + 1]; e++) {
+            Edge temp = new Edge();
+            temp.setNeighborNumber((short) this.targets[e]);
+            temp.setEdgeCost((short) this.costs[e]);
+            neighbors.add(temp);
+        }
+        return neighbors;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Interface methods for a priority queue of vertices used by Dijikstra.
+ * The queue holds the vertex numbers 0 to n - 1, each at most once,
+ * keyed by an int cost.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public interface DecreaseKeyQueue {
+
+    /**
+     * Insert a vertex in the queue.
+     * @param v vertex number, must not be in the queue
+     * @param keyVal key value of the vertex
+     */
+    void insert(int v, int keyVal);
+
+    /**
+     * Removes the vertex with the minimum key from the queue.
+     * @return the minimum vertex
+     * @throws Exception when the queue is empty
+     */
+    int removeMin() throws Exception;
+
+    /**
+     * Decreases the key of a vertex in the queue.
+     * @param v vertex number, must be in the queue
+     * @param keyVal new key value, not larger than the current key
+     */
+    void decreaseKey(int v, int keyVal);
+
+    /**
+     * Returns whether the vertex is currently in the queue.
+     * @param v vertex number
+     * @return true if the vertex is in the queue
+     */
+    boolean contains(int v);
+
+    /**
+     * Returns true if the queue is empty.
+     * @return true if queue is empty
+     */
+    boolean isHeapEmpty();
+
+    /**
+     * Removes all vertices from the queue so it can be reused.
+     */
+    void clear();
+}
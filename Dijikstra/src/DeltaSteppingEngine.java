@@ -0,0 +1,408 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Class to run the delta stepping shortest path algorithm in parallel.
+ * Vertices are kept in buckets of width delta by their tentative cost.
+ * The lowest bucket is emptied in phases, every phase relaxes the light
+ * edges (cost up to delta) of all its vertices in parallel, which can
+ * refill the bucket. Once the bucket stays empty the heavy edges of all
+ * vertices it held are relaxed in parallel too. Costs are lowered with
+ * compareAndSet, so the result is the same as the one of the fibonacci
+ * scheme whatever order the workers run in.
+ * The workers are the threads of a ForkJoinPool, the vertices of a
+ * phase are split in halves until a piece is small enough.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class DeltaSteppingEngine {
+
+    /**
+     * STATIC int for the most vertices relaxed by one task without
+     * splitting it further.
+     */
+    private static final int SPLIT_THRESHOLD = 512;
+    /**
+     * STATIC int bounding the number of buckets in the ring, delta is
+     * never below the largest edge cost divided by this value.
+     */
+    private static final int MAX_BUCKETS = 1 << 16;
+
+
+    /**
+     * Constructor used to run with one worker per processor.
+     * @param g graph snapshot on which algorithm is run
+     */
+    public DeltaSteppingEngine(ICsrGraph g) {
+        this(g, Runtime.getRuntime().availableProcessors());
+    }
+
+
+    /**
+     * Constructor used to run with the given number of workers.
+     * @param g graph snapshot on which algorithm is run
+     * @param threads number of worker threads
+     */
+    public DeltaSteppingEngine(ICsrGraph g, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Wrong arguments in input");
+        }
+        int n = g.getNumberOfVertices();
+        this.myGraph = g;
+        this.pool = new ForkJoinPool(threads);
+        this.delta = autoDelta(g);
+        this.costs = new AtomicIntegerArray(n);
+        this.pathCosts = new int[n];
+        this.phaseMark = new int[n];
+        this.bucketMark = new int[n];
+    }
+
+
+    /**
+     * Graph Object.
+     */
+    private ICsrGraph myGraph;
+    /**
+     * Worker threads of the engine.
+     */
+    private ForkJoinPool pool;
+    /**
+     * Width of a bucket, edges up to this cost are light.
+     */
+    private int delta;
+    /**
+     * Tentative cost of every vertex shared by the workers.
+     */
+    private AtomicIntegerArray costs;
+    /**
+     * Cost of path from source to all nodes after the last run.
+     */
+    private int[] pathCosts;
+    /**
+     * Last phase in which every vertex was relaxed.
+     */
+    private int[] phaseMark;
+    /**
+     * Last bucket in which every vertex was settled.
+     */
+    private int[] bucketMark;
+
+
+    /**
+     * Picks delta from the edge costs of the graph.
+     * The mean edge cost makes about as many edges light as heavy on
+     * most cost distributions, a cost of 1 everywhere makes this a
+     * parallel breadth first search.
+     * @param g graph snapshot
+     * @return bucket width, at least 1
+     */
+    public static int autoDelta(final ICsrGraph g) {
+        int m = g.getNumberOfHalfEdges();
+        long sum = 0;
+        for (int e = 0; e < m; e++) {
+            sum += g.edgeCost(e);
+        }
+        return (int) Math.max(minimumDelta(g), (m == 0) ? 1L : sum / m);
+    }
+
+
+    /**
+     * Smallest bucket width that keeps the ring of buckets bounded.
+     * @param g graph snapshot
+     * @return smallest delta, at least 1
+     */
+    private static int minimumDelta(final ICsrGraph g) {
+        return Math.max(1, g.getMaxEdgeCost() / MAX_BUCKETS);
+    }
+
+
+    /**
+     * getter for the bucket width.
+     * @return delta
+     */
+    public final int getDelta() {
+        return this.delta;
+    }
+
+
+    /**
+     * Setter for the bucket width.
+     * A width below the largest edge cost / 65536 is raised to it so
+     * the ring of buckets stays bounded.
+     * @param d bucket width, at least 1
+     */
+    public final void setDelta(final int d) {
+        if (d <= 0) {
+            throw new IllegalArgumentException("Wrong arguments in input");
+        }
+        this.delta = Math.max(d, minimumDelta(this.myGraph));
+    }
+
+
+    /**
+     * getter for path costs from source to other nodes.
+     * Unreachable vertices have the cost DijikstraEngine.INFINITY.
+     * @return the path costs of the last run
+     */
+    public final int[] getDistances() {
+        return this.pathCosts;
+    }
+
+
+    /**
+     * Stops the worker threads, the engine cannot run afterwards.
+     */
+    public final void shutdown() {
+        this.pool.shutdown();
+    }
+
+
+    /**
+     * Run the delta stepping algorithm from the given source.
+     * @param source source node in the graph
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void run(final int source) throws Exception {
+        int n = this.myGraph.getNumberOfVertices();
+        int d = this.delta;
+        for (int i = 0; i < n; i++) {
+            this.costs.set(i, DijikstraEngine.INFINITY);
+        }
+        Arrays.fill(this.phaseMark, 0);
+        Arrays.fill(this.bucketMark, -1);
+        this.costs.set(source, 0);
+
+        //All tentative costs lie within maxEdgeCost of the lowest bucket,
+        //so a ring of buckets is enough
+        int ringSize = this.myGraph.getMaxEdgeCost() / d + 2;
+        IntList[] buckets = new IntList[ringSize];
+        for (int i = 0; i < ringSize; i++) {
+            buckets[i] = new IntList();
+        }
+        buckets[0].add(source);
+        long pending = 1;
+        int phase = 0;
+        IntList frontier = new IntList();
+        IntList settled = new IntList();
+        for (int b = 0; pending > 0; b++) {
+            IntList bucket = buckets[b % ringSize];
+            if (bucket.size() == 0) {
+                continue;
+            }
+            settled.clear();
+            while (bucket.size() > 0) {
+                phase++;
+                frontier.clear();
+                for (int i = 0; i < bucket.size(); i++) {
+                    int v = bucket.get(i);
+                    if (this.costs.get(v) / d == b && this.phaseMark[v] != phase) {
+                        this.phaseMark[v] = phase;
+                        frontier.add(v);
+                        if (this.bucketMark[v] != b) {
+                            this.bucketMark[v] = b;
+                            settled.add(v);
+                        }
+                    }
+                }
+                pending -= bucket.size();
+                bucket.clear();
+                pending += relax(frontier, true, buckets);
+            }
+            pending += relax(settled, false, buckets);
+        }
+        for (int i = 0; i < n; i++) {
+            this.pathCosts[i] = this.costs.get(i);
+        }
+    }
+
+
+    /**
+     * Relaxes the light or the heavy edges of a list of vertices in
+     * parallel and files every lowered vertex into its bucket.
+     * @param vertices vertices whose edges are relaxed
+     * @param light true for the light edges, false for the heavy edges
+     * @param buckets ring of buckets
+     * @return number of vertices filed into the buckets
+     */
+    private long relax(final IntList vertices, final boolean light,
+            final IntList[] buckets) {
+        if (vertices.size() == 0) {
+            return 0;
+        }
+        ConcurrentLinkedQueue<IntList> lowered = new ConcurrentLinkedQueue<>();
+        RelaxTask task = new RelaxTask(vertices, 0, vertices.size(), light, lowered);
+        if (vertices.size() <= SPLIT_THRESHOLD) {
+            task.compute();
+        } else {
+            this.pool.invoke(task);
+        }
+        long filed = 0;
+        int d = this.delta;
+        for (IntList list : lowered) {
+            for (int i = 0; i < list.size(); i++) {
+                int v = list.get(i);
+                buckets[(this.costs.get(v) / d) % buckets.length].add(v);
+            }
+            filed += list.size();
+        }
+        return filed;
+    }
+
+
+    /**
+     * Task relaxing the edges of a range of vertices.
+     */
+    private final class RelaxTask extends RecursiveAction {
+
+        /**
+         * Serial version of the task.
+         */
+        private static final long serialVersionUID = 1L;
+        /**
+         * Vertices whose edges are relaxed.
+         */
+        private final IntList vertices;
+        /**
+         * First position of the range.
+         */
+        private final int from;
+        /**
+         * Position after the range.
+         */
+        private final int to;
+        /**
+         * True for the light edges, false for the heavy edges.
+         */
+        private final boolean light;
+        /**
+         * Lists of lowered vertices of all tasks.
+         */
+        private final ConcurrentLinkedQueue<IntList> lowered;
+
+
+        /**
+         * Constructor of a task.
+         * @param list vertices whose edges are relaxed
+         * @param lo first position of the range
+         * @param hi position after the range
+         * @param lightEdges true for the light edges
+         * @param out lists of lowered vertices of all tasks
+         */
+        RelaxTask(final IntList list, final int lo, final int hi,
+                final boolean lightEdges, final ConcurrentLinkedQueue<IntList> out) {
+            this.vertices = list;
+            this.from = lo;
+            this.to = hi;
+            this.light = lightEdges;
+            this.lowered = out;
+        }
+
+
+        /**
+         * Splits the range or relaxes it.
+         */
+        @Override
+        protected void compute() {
+            if (this.to - this.from > SPLIT_THRESHOLD) {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(new RelaxTask(this.vertices, this.from, mid, this.light, this.lowered),
+                        new RelaxTask(this.vertices, mid, this.to, this.light, this.lowered));
+                return;
+            }
+            ICsrGraph g = myGraph;
+            AtomicIntegerArray c = costs;
+            int d = delta;
+            IntList out = new IntList();
+            for (int i = this.from; i < this.to; i++) {
+                int u = this.vertices.get(i);
+                int base = c.get(u);
+                for (int e = g.edgeBegin(u); e < g.edgeEnd(u); e++) {
+                    int cost = g.edgeCost(e);
+                    if ((cost <= d) != this.light) {
+                        continue;
+                    }
+                    int toReach = base + cost;
+                    if (toReach < 0) {
+                        continue;
+                    }
+                    int v = g.edgeTarget(e);
+                    int old = c.get(v);
+                    while (toReach < old) {
+                        if (c.compareAndSet(v, old, toReach)) {
+                            out.add(v);
+                            break;
+                        }
+                        old = c.get(v);
+                    }
+                }
+            }
+            if (out.size() > 0) {
+                this.lowered.add(out);
+            }
+        }
+    }
+
+
+    /**
+     * Growable list of ints.
+     */
+    private static final class IntList {
+
+        /**
+         * Elements of the list.
+         */
+        private int[] elements = new int[16];
+        /**
+         * Number of elements.
+         */
+        private int size;
+
+
+        /**
+         * getter for number of elements.
+         * @return number of elements
+         */
+        int size() {
+            return this.size;
+        }
+
+
+        /**
+         * getter for an element.
+         * @param i position
+         * @return element at the position
+         */
+        int get(final int i) {
+            return this.elements[i];
+        }
+
+
+        /**
+         * Appends an element.
+         * @param v element
+         */
+        void add(final int v) {
+            if (this.size == this.elements.length) {
+                this.elements = Arrays.copyOf(this.elements, this.size * 2);
+            }
+            this.elements[this.size++] = v;
+        }
+
+
+        /**
+         * Removes all elements and keeps the array.
+         */
+        void clear() {
+            this.size = 0;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Class to represent the circular bucket queue of Dial's algorithm.
+ * With edge costs between 1 and C every key in the queue lies in the
+ * window [min, min + C], so C + 1 buckets used in a circle hold all
+ * vertices and the next minimum is found by advancing a cursor instead
+ * of comparing keys. The buckets are doubly linked lists kept in int
+ * arrays indexed by vertex number. Vertices with key Integer.MAX_VALUE
+ * wait in a separate list until their key is first decreased.
+ * The keys must be monotone, a key is never below the last removed one.
+ * C is limited to MAX_COST so the bucket array stays small, graphs with
+ * larger edge costs need a heap.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class DialQueue implements DecreaseKeyQueue {
+
+    /**
+     * STATIC int marking a missing link.
+     */
+    private static final int NIL = -1;
+    /**
+     * STATIC int for the list of vertices with infinite key.
+     */
+    private static final int INFINITE_LIST = -2;
+    /**
+     * STATIC int for the largest edge cost the queue accepts.
+     */
+    public static final int MAX_COST = 1 << 20;
+
+    /**
+     * Constructor to initialize a new bucket queue.
+     * @param n number of vertices that can be stored in the queue
+     * @param maxCost largest edge cost of the graph, 1 to MAX_COST
+     */
+    public DialQueue(final int n, final int maxCost) {
+        if (maxCost < 1) {
+            throw new IllegalArgumentException("Maximum edge cost must be positive");
+        }
+        if (maxCost > MAX_COST) {
+            throw new IllegalArgumentException("Maximum edge cost exceeds " + MAX_COST
+                    + " buckets of the bucket queue");
+        }
+        this.numberOfBuckets = maxCost + 1;
+        this.bucketHead = new int[this.numberOfBuckets];
+        for (int i = 0; i < this.numberOfBuckets; i++) {
+            this.bucketHead[i] = NIL;
+        }
+        this.next = new int[n];
+        this.prev = new int[n];
+        this.bucket = new int[n];
+        this.keyValue = new int[n];
+        this.inHeap = new boolean[n];
+        this.infiniteHead = NIL;
+        this.cursor = 0;
+        this.finiteNodes = 0;
+        this.numberOfNodes = 0;
+    }
+
+
+    /**
+     * Number of buckets, largest edge cost + 1.
+     */
+    private final int numberOfBuckets;
+    /**
+     * First vertex of every bucket.
+     */
+    private final int[] bucketHead;
+    /**
+     * Next vertex in the same bucket.
+     */
+    private final int[] next;
+    /**
+     * Previous vertex in the same bucket.
+     */
+    private final int[] prev;
+    /**
+     * Bucket of every vertex, INFINITE_LIST for infinite keys.
+     */
+    private final int[] bucket;
+    /**
+     * Key value of every vertex.
+     */
+    private final int[] keyValue;
+    /**
+     * Whether the vertex is currently in the queue.
+     */
+    private final boolean[] inHeap;
+    /**
+     * First vertex with infinite key.
+     */
+    private int infiniteHead;
+    /**
+     * Smallest key that can still be in the buckets.
+     */
+    private int cursor;
+    /**
+     * Number of vertices in the buckets.
+     */
+    private int finiteNodes;
+    /**
+     * number of nodes currently in the queue.
+     */
+    private int numberOfNodes;
+
+
+    /**
+     * getter for number of nodes.
+     * @return numberOfNodes in the queue
+     */
+    public final int getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+
+    /**
+     * Insert a vertex in the queue.
+     * @param v vertex number
+     * @param keyVal key value of the vertex
+     */
+    @Override
+    public final void insert(final int v, final int keyVal) {
+        inHeap[v] = true;
+        ++numberOfNodes;
+        place(v, keyVal);
+    }
+
+
+    /**
+     * Removes the vertex with the minimum key from the queue.
+     * @return the minimum vertex
+     * @throws Exception when the queue is empty
+     */
+    @Override
+    public final int removeMin() throws Exception {
+        int v;
+        if (finiteNodes > 0) {
+            int b = cursor % numberOfBuckets;
+            while (bucketHead[b] == NIL) {
+                ++cursor;
+                if (++b == numberOfBuckets) {
+                    b = 0;
+                }
+            }
+            v = bucketHead[b];
+        } else if (infiniteHead != NIL) {
+            v = infiniteHead;
+        } else {
+            throw new Exception("Cannot remove minimum from empty queue");
+        }
+        unlink(v);
+        inHeap[v] = false;
+        --numberOfNodes;
+        return v;
+    }
+
+
+    /**
+     * Decreases the key of a vertex in the queue.
+     * @param v vertex number
+     * @param keyVal new key value, at most C above the last removed key
+     */
+    @Override
+    public final void decreaseKey(final int v, final int keyVal) {
+        unlink(v);
+        place(v, keyVal);
+    }
+
+
+    /**
+     * Returns whether the vertex is currently in the queue.
+     * @param v vertex number
+     * @return true if the vertex is in the queue
+     */
+    @Override
+    public final boolean contains(final int v) {
+        return inHeap[v];
+    }
+
+
+    /**
+     * Returns true if the queue is empty.
+     * @return true if queue is empty
+     */
+    @Override
+    public final boolean isHeapEmpty() {
+        return numberOfNodes == 0;
+    }
+
+
+    /**
+     * Removes all vertices from the queue so it can be reused.
+     * Only the buckets from the cursor up to the last finite vertex and
+     * the infinite list are walked, the cost is proportional to the
+     * vertices left in the queue and the key window they span.
+     */
+    @Override
+    public final void clear() {
+        int b = cursor % numberOfBuckets;
+        int left = finiteNodes;
+        while (left > 0) {
+            for (int v = bucketHead[b]; v != NIL; v = next[v]) {
+                inHeap[v] = false;
+                --left;
+            }
+            bucketHead[b] = NIL;
+            if (++b == numberOfBuckets) {
+                b = 0;
+            }
+        }
+        for (int v = infiniteHead; v != NIL; v = next[v]) {
+            inHeap[v] = false;
+        }
+        infiniteHead = NIL;
+        cursor = 0;
+        finiteNodes = 0;
+        numberOfNodes = 0;
+    }
+
+
+    /**
+     * Puts a vertex at the front of the list for its key.
+     * @param v vertex number
+     * @param keyVal key value of the vertex
+     */
+    private void place(final int v, final int keyVal) {
+        keyValue[v] = keyVal;
+        int head;
+        if (keyVal == Integer.MAX_VALUE) {
+            bucket[v] = INFINITE_LIST;
+            head = infiniteHead;
+            infiniteHead = v;
+        } else {
+            if (finiteNodes == 0 || keyVal < cursor) {
+                cursor = keyVal;
+            }
+            ++finiteNodes;
+            int b = keyVal % numberOfBuckets;
+            bucket[v] = b;
+            head = bucketHead[b];
+            bucketHead[b] = v;
+        }
+        prev[v] = NIL;
+        next[v] = head;
+        if (head != NIL) {
+            prev[head] = v;
+        }
+    }
+
+
+    /**
+     * Removes a vertex from the list it is in.
+     * @param v vertex number
+     */
+    private void unlink(final int v) {
+        if (prev[v] != NIL) {
+            next[prev[v]] = next[v];
+        } else if (bucket[v] == INFINITE_LIST) {
+            infiniteHead = next[v];
+        } else {
+            bucketHead[bucket[v]] = next[v];
+        }
+        if (next[v] != NIL) {
+            prev[next[v]] = prev[v];
+        }
+        if (bucket[v] != INFINITE_LIST) {
+            --finiteNodes;
+        }
+    }
+}
@@ -4,65 +4,138 @@
  */
 
 
-import java.util.List;
-import java.util.LinkedList;
-import java.util.ListIterator;
 /**
  * Class to run the shortest path algorithm using simple scheme.
  * An Array is used by the simple scheme to determine
- * the next smallest vertex to visit.
+ * the next smallest vertex to visit. Every step scans the primitive
+ * cost array, skipping settled vertices through a bitset, so a run is
+ * O(n^2) with no heap work at all. On dense graphs, where E is close to
+ * n^2, this beats the heap based schemes.
  * @author Sakthivel Manikam Arunachalam
  * @version 1.0
  */
 public class DijikstraAlgorithm {
 
     /**
-     * Static String for Algorithm exception.
+     * STATIC double for the density in percent from which the simple
+     * scheme is preferred over the heap based schemes.
      */
-    private static final String ALGO_EXCEPTION = "Dijikstra simple algorithm exception";
+    private static final double PREFERRED_DENSITY = 75.0;
+    /**
+     * STATIC double for percentage computation.
+     */
+    private static final double PERCENT = 100;
 
     /**
      * Constructor used to initialize the graph variables.
+     * The graph is frozen into a CsrGraph snapshot for the run.
      * @param g graph on which algorithm is run
      * @param s source node in the graph
      */
     public DijikstraAlgorithm(Graph g, short s) {
+        this(new CsrGraph(g), s);
+    }
+
+
+    /**
+     * Constructor used to run the algorithm on a CSR snapshot.
+     * @param g graph snapshot on which algorithm is run
+     * @param s source node in the graph
+     */
+    public DijikstraAlgorithm(ICsrGraph g, int s) {
         this.myGraph = g;
         this.source = s;
-        this.pathCosts = new Integer[g.getNumberOfVertices()];
-        this.dijikstraQueue = new LinkedList();
+        this.pathCosts = new int[g.getNumberOfVertices()];
+        this.predecessor = new int[g.getNumberOfVertices()];
+        this.settled = new long[(g.getNumberOfVertices() + Long.SIZE - 1) / Long.SIZE];
     }
 
 
     /**
      * Graph Object.
      */
-    private Graph myGraph;
+    private ICsrGraph myGraph;
     /**
      * Source node.
      */
-    private short source;
+    private int source;
     /**
      * Cost of path from source to all nodes.
      * This Array is used by the simple scheme to determine
      * the next smallest vertex to visit.
      */
-    private Integer[] pathCosts;
+    private int[] pathCosts;
+    /**
+     * Predecessor of every node on its shortest path.
+     */
+    private int[] predecessor;
+    /**
+     * Bitset of the vertices whose cost is final.
+     */
+    private long[] settled;
+
+
     /**
-     * Queue used by Djikstra algorithm.
+     * Returns whether the simple scheme should be chosen for a graph.
+     * @param g graph snapshot
+     * @return true when the density of the graph is at least 75%
      */
-    private List<Integer> dijikstraQueue;
+    public static boolean isPreferred(final ICsrGraph g) {
+        double n = g.getNumberOfVertices();
+        if (n < 2) {
+            return true;
+        }
+        double density = (g.getNumberOfHalfEdges() / 2.0) / (n * (n - 1.0) / 2.0) * PERCENT;
+        return density >= PREFERRED_DENSITY;
+    }
 
 
     /**
      * getter for path costs from source to other nodes.
+     * The costs are boxed into a new array on every call,
+     * getDistances() returns them without the copy.
      * @return the path costs to the caller
      */
     public final Integer[] getPathCosts() {
+        Integer[] boxedCosts = new Integer[this.pathCosts.length];
+        for (int i = 0; i < this.pathCosts.length; i++) {
+            boxedCosts[i] = this.pathCosts[i];
+        }
+        return boxedCosts;
+    }
+
+
+    /**
+     * getter for path costs from source to other nodes without boxing.
+     * Unreachable vertices have the cost DijikstraEngine.INFINITY.
+     * @return the path costs to the caller
+     */
+    public final int[] getDistances() {
         return this.pathCosts;
     }
 
 
+    /**
+     * getter for the predecessor of every node on its shortest path.
+     * Only meaningful for vertices with a cost below
+     * DijikstraEngine.INFINITY.
+     * @return the predecessors to the caller
+     */
+    public final int[] getPredecessors() {
+        return this.predecessor;
+    }
+
+
+    /**
+     * Copies the result of the run into a shortest path tree.
+     * @return shortest path tree of the source
+     */
+    public final ShortestPathTree getShortestPathTree() {
+        return new ShortestPathTree(this.source, this.pathCosts.clone(),
+                this.predecessor.clone());
+    }
+
+
     /**
      * Run the Dijikstra Algorithm in simple scheme.
      * This is the actual function that run the algorithm
@@ -72,68 +145,69 @@ public class DijikstraAlgorithm {
         runSimpleInitializer();
         //Dijikstra algorithm start
         this.pathCosts[this.source] = 0;
-        while (!this.dijikstraQueue.isEmpty()) {
-            Integer nextSmallestVertex = getnextsmallestNode();
-            if (!removeMin(nextSmallestVertex)) {
-                throw new Exception(ALGO_EXCEPTION);
+        this.predecessor[this.source] = ShortestPathTree.NO_PREDECESSOR;
+        ICsrGraph g = this.myGraph;
+        int[] costs = this.pathCosts;
+        for (int step = 0; step < g.getNumberOfVertices(); step++) {
+            int nextSmallestVertex = getnextsmallestNode();
+            if (nextSmallestVertex < 0) {
+                //Remaining vertices are not reachable from the source
+                break;
             }
-            List<Edge> neighbors = this.myGraph.getAdjacencyList().get(nextSmallestVertex);
-            for (ListIterator<Edge> iter = neighbors.listIterator(); iter.hasNext();) {
-                Edge e = iter.next();
-                Integer toReach = this.pathCosts[nextSmallestVertex] + e.getEdgeCost();
-                if (toReach < this.pathCosts[e.getNeighborNumber()]) {
-                    this.pathCosts[e.getNeighborNumber()] = toReach;
+            this.settled[nextSmallestVertex >>> 6] |= 1L << nextSmallestVertex;
+            int base = costs[nextSmallestVertex];
+            for (int e = g.edgeBegin(nextSmallestVertex); e < g.edgeEnd(nextSmallestVertex); e++) {
+                int v = g.edgeTarget(e);
+                int toReach = base + g.edgeCost(e);
+                if (toReach < 0) {
+                    toReach = DijikstraEngine.INFINITY;
+                }
+                if (toReach < costs[v]) {
+                    costs[v] = toReach;
+                    this.predecessor[v] = nextSmallestVertex;
                 }
             }
         }
     }
 
 
-    /**
-     * Remove Minimum from dijikstra queue.
-     * @param vertexToRemove the vertex that should be removed
-     * @return true if the vertex is removed
-     */
-    private boolean removeMin(Integer vertexToRemove) {
-        for (int i = 0; i < this.dijikstraQueue.size(); i++) {
-            if (this.dijikstraQueue.get(i).intValue() == vertexToRemove.intValue()) {
-                this.dijikstraQueue.remove(i);
-                return true;
-            }
-        }
-        return false;
-    }
-
-
     /**
      * Run initializer function before algorithm.
      */
     private void runSimpleInitializer() {
-        this.dijikstraQueue.clear();
-        for (int i = 0; i < this.myGraph.getNumberOfVertices(); i++) {
-            this.pathCosts[i] = Integer.MAX_VALUE;
-            this.dijikstraQueue.add(i);
+        for (int i = 0; i < this.pathCosts.length; i++) {
+            this.pathCosts[i] = DijikstraEngine.INFINITY;
+        }
+        for (int i = 0; i < this.settled.length; i++) {
+            this.settled[i] = 0L;
         }
     }
 
 
     /**
-     * Function to get the next smallest vertex in the queue.
+     * Function to get the next smallest vertex that is not settled.
      * This is a linear complexity function O(n) worst case
      * This is the main drawback of the simple scheme dijikstra algorithm
-     * using linear list.
-     * @return the smallest next vertex number
+     * using linear list. Fully settled 64 vertex blocks are skipped.
+     * @return the smallest next vertex number, -1 if none is reachable
      */
     private int getnextsmallestNode() {
-        Integer smallestVertex = this.dijikstraQueue.get(0);
-        int smallestCost = this.pathCosts[smallestVertex];
-        for (ListIterator<Integer> iter = this.dijikstraQueue.listIterator(); iter.hasNext();) {
-            Integer vertex = iter.next();
-            if (this.pathCosts[vertex] < smallestCost) {
-                smallestCost = this.pathCosts[vertex];
-                smallestVertex = vertex;
+        int smallestVertex = -1;
+        int smallestCost = DijikstraEngine.INFINITY;
+        int[] costs = this.pathCosts;
+        for (int w = 0; w < this.settled.length; w++) {
+            long open = ~this.settled[w];
+            if (open == 0L) {
+                continue;
+            }
+            int end = Math.min((w + 1) * Long.SIZE, costs.length);
+            for (int v = w * Long.SIZE; v < end; v++) {
+                if (costs[v] < smallestCost && (open & (1L << v)) != 0L) {
+                    smallestCost = costs[v];
+                    smallestVertex = v;
+                }
             }
         }
         return smallestVertex;
     }
-}
\ No newline at end of file
+}
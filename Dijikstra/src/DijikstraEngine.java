@@ -0,0 +1,382 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.Arrays;
+
+/**
+ * Class to run the shortest path algorithm with any priority queue.
+ * The queue decides how the next smallest vertex to visit is found,
+ * so the same engine runs the fibonacci scheme and the simpler heaps.
+ * The queue and the cost array are reused by every run.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class DijikstraEngine {
+
+    /**
+     * Static String for Algorithm exception.
+     */
+    private static final String ALGO_EXCEPTION = "Dijikstra engine algorithm exception";
+    /**
+     * Cost reported for vertices that are not reachable from the source.
+     * Relaxation saturates at this value instead of wrapping around, so
+     * a path longer than Integer.MAX_VALUE - 1 is reported as unreachable
+     * too. The file schemes refuse graphs where this can happen and
+     * DijikstraLongAlgorithm handles them.
+     */
+    public static final int INFINITY = Integer.MAX_VALUE;
+    /**
+     * Nearest source of the vertices that are not reachable.
+     */
+    public static final int NO_SOURCE = -1;
+
+
+    /**
+     * Constructor used to initialize the graph and the queue.
+     * @param g graph snapshot on which algorithm is run
+     * @param q empty queue able to hold all vertices of g
+     */
+    public DijikstraEngine(ICsrGraph g, DecreaseKeyQueue q) {
+        this.myGraph = g;
+        this.queue = q;
+        this.pathCosts = new int[g.getNumberOfVertices()];
+        this.predecessor = new int[g.getNumberOfVertices()];
+        this.nearestSource = new int[g.getNumberOfVertices()];
+        this.touched = new int[g.getNumberOfVertices()];
+        this.touchedCount = -1;
+        this.lastSource = 0;
+        this.lazyInsertion = false;
+    }
+
+
+    /**
+     * Constructor that creates the queue from its type.
+     * @param g graph snapshot on which algorithm is run
+     * @param type type of priority queue to use
+     */
+    public DijikstraEngine(ICsrGraph g, QueueType type) {
+        this(g, type.create(g.getNumberOfVertices()));
+    }
+
+
+    /**
+     * Graph Object.
+     */
+    private ICsrGraph myGraph;
+    /**
+     * Priority queue of the vertices still to visit.
+     */
+    private DecreaseKeyQueue queue;
+    /**
+     * Cost of path from source to all nodes.
+     */
+    private int[] pathCosts;
+    /**
+     * Predecessor of every node on its shortest path.
+     */
+    private int[] predecessor;
+    /**
+     * Nearest source of every node in the last run.
+     */
+    private int[] nearestSource;
+    /**
+     * Source node of the last run or query, -1 after a multi source run.
+     */
+    private int lastSource;
+    /**
+     * Whether vertices are inserted only when they are first reached.
+     */
+    private boolean lazyInsertion;
+    /**
+     * Vertices whose cost was set by the last early stopping query.
+     */
+    private int[] touched;
+    /**
+     * Number of vertices in touched, -1 when the whole cost array has
+     * to be reset.
+     */
+    private int touchedCount;
+
+
+    /**
+     * getter for path costs from source to other nodes.
+     * Unreachable vertices have the cost INFINITY. After an early
+     * stopping query only the settled vertices hold their final cost.
+     * @return the path costs of the last run
+     */
+    public final int[] getDistances() {
+        return this.pathCosts;
+    }
+
+
+    /**
+     * getter for the predecessor of every node on its shortest path.
+     * Only meaningful for vertices with a cost below INFINITY.
+     * @return the predecessors of the last run
+     */
+    public final int[] getPredecessors() {
+        return this.predecessor;
+    }
+
+
+    /**
+     * getter for the nearest source of every node.
+     * After runMultiSource this is the source whose path to the node is
+     * the cheapest, after run it is the single source. After a point
+     * query it is the query source for the nodes the query reached.
+     * @return the nearest sources of the last run, NO_SOURCE for
+     * unreachable nodes
+     */
+    public final int[] getNearestSources() {
+        return this.nearestSource;
+    }
+
+
+    /**
+     * Copies the result of the last run into a shortest path tree.
+     * The copy stays valid when the engine runs again, so it can be
+     * cached for the source. After an early stopping query only the
+     * paths to the settled vertices are shortest paths.
+     * @return shortest path tree of the last run
+     */
+    public final ShortestPathTree getShortestPathTree() {
+        return new ShortestPathTree(this.lastSource, this.pathCosts.clone(),
+                this.predecessor.clone());
+    }
+
+
+    /**
+     * getter for the lazy insertion mode.
+     * @return true when vertices are inserted on first reach
+     */
+    public final boolean isLazyInsertion() {
+        return this.lazyInsertion;
+    }
+
+
+    /**
+     * Setter for the lazy insertion mode.
+     * In lazy mode only the source is inserted up front and every other
+     * vertex enters the queue when it is first reached, so the queue
+     * holds just the frontier and the first removeMin does not
+     * consolidate the whole graph.
+     * @param lazy true to insert vertices on first reach
+     */
+    public final void setLazyInsertion(final boolean lazy) {
+        this.lazyInsertion = lazy;
+    }
+
+
+    /**
+     * getter for the graph.
+     * @return the graph snapshot
+     */
+    public final ICsrGraph getGraph() {
+        return this.myGraph;
+    }
+
+
+    /**
+     * Run the Dijikstra Algorithm from the given source.
+     * Unless lazy insertion is on every vertex is inserted up front,
+     * the source with key 0 and the others with Integer.MAX_VALUE.
+     * @param source source node in the graph
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void run(final int source) throws Exception {
+        runFrom(new int[] {source});
+    }
+
+
+    /**
+     * Run the Dijikstra Algorithm from a set of sources at once.
+     * All sources start with key 0, so every node gets the cost of the
+     * path from its nearest source, and getNearestSources() tells which
+     * source that is. One run replaces a run per source.
+     * @param sources source nodes in the graph
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void runMultiSource(final int[] sources) throws Exception {
+        if (sources.length == 0) {
+            throw new IllegalArgumentException("Wrong arguments in input");
+        }
+        runFrom(sources);
+    }
+
+
+    /**
+     * Runs the algorithm with every source seeded at key 0.
+     * @param sources source nodes in the graph
+     * @throws Exception when encountered with exceptional cases
+     */
+    private void runFrom(final int[] sources) throws Exception {
+        DecreaseKeyQueue q = this.queue;
+        ICsrGraph g = this.myGraph;
+        int[] costs = this.pathCosts;
+        int[] pred = this.predecessor;
+        int[] nearest = this.nearestSource;
+        boolean lazy = this.lazyInsertion;
+        q.clear();
+        this.touchedCount = -1;
+        this.lastSource = (sources.length == 1) ? sources[0] : -1;
+        for (int i = 0; i < g.getNumberOfVertices(); i++) {
+            costs[i] = INFINITY;
+            nearest[i] = NO_SOURCE;
+        }
+        for (int i = 0; i < sources.length; i++) {
+            costs[sources[i]] = 0;
+            pred[sources[i]] = ShortestPathTree.NO_PREDECESSOR;
+            nearest[sources[i]] = sources[i];
+        }
+        for (int i = 0; i < g.getNumberOfVertices(); i++) {
+            if (!lazy || costs[i] == 0) {
+                q.insert(i, costs[i]);
+            }
+        }
+        while (!q.isHeapEmpty()) {
+            int u = q.removeMin();
+            if (u < 0) {
+                throw new Exception(ALGO_EXCEPTION);
+            }
+            int base = costs[u];
+            if (base == INFINITY) {
+                //Remaining vertices are not reachable from the source
+                break;
+            }
+            for (int e = g.edgeBegin(u); e < g.edgeEnd(u); e++) {
+                int v = g.edgeTarget(e);
+                int toReach = base + g.edgeCost(e);
+                if (toReach < 0) {
+                    toReach = INFINITY;
+                }
+                if (toReach < costs[v]) {
+                    if (lazy && costs[v] == INFINITY) {
+                        q.insert(v, toReach);
+                    } else {
+                        q.decreaseKey(v, toReach);
+                    }
+                    costs[v] = toReach;
+                    pred[v] = u;
+                    nearest[v] = nearest[u];
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Computes the cost of the shortest path between two vertices.
+     * The search stops as soon as the target is removed from the queue.
+     * @param source source node in the graph
+     * @param target target node in the graph
+     * @return cost of the shortest path, INFINITY when the target is not
+     * reachable
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final int shortestDistance(final int source, final int target)
+            throws Exception {
+        search(source, target, Integer.MAX_VALUE, null);
+        return this.pathCosts[target];
+    }
+
+
+    /**
+     * Finds the k vertices nearest to the source, the source included.
+     * The search stops once k vertices are removed from the queue, their
+     * costs can be read from getDistances().
+     * @param source source node in the graph
+     * @param k number of vertices to find
+     * @return up to k vertices in the order of their cost, fewer when
+     * less vertices are reachable
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final int[] kNearest(final int source, final int k)
+            throws Exception {
+        int[] nearest = new int[Math.max(0, Math.min(k, this.myGraph.getNumberOfVertices()))];
+        int found = search(source, -1, nearest.length, nearest);
+        if (found < nearest.length) {
+            nearest = Arrays.copyOf(nearest, found);
+        }
+        return nearest;
+    }
+
+
+    /**
+     * Early stopping search shared by the point queries.
+     * Vertices enter the queue when they are first reached and only the
+     * vertices reached are reset by the next query, so the cost of a
+     * query depends on the part of the graph it explores. Vertices not
+     * reached keep the cost INFINITY and the nearest source NO_SOURCE.
+     * @param source source node in the graph
+     * @param target vertex that ends the search, -1 for none
+     * @param limit maximum number of vertices to settle
+     * @param settledOut array receiving the settled vertices, or null
+     * @return number of settled vertices
+     * @throws Exception when encountered with exceptional cases
+     */
+    private int search(final int source, final int target, final int limit,
+            final int[] settledOut) throws Exception {
+        DecreaseKeyQueue q = this.queue;
+        ICsrGraph g = this.myGraph;
+        int[] costs = this.pathCosts;
+        int[] pred = this.predecessor;
+        int[] nearest = this.nearestSource;
+        q.clear();
+        this.lastSource = source;
+        if (this.touchedCount < 0) {
+            Arrays.fill(costs, INFINITY);
+            Arrays.fill(nearest, NO_SOURCE);
+        } else {
+            for (int i = 0; i < this.touchedCount; i++) {
+                costs[this.touched[i]] = INFINITY;
+                nearest[this.touched[i]] = NO_SOURCE;
+            }
+        }
+        this.touchedCount = 0;
+        int settled = 0;
+        if (limit <= 0) {
+            return settled;
+        }
+        costs[source] = 0;
+        pred[source] = ShortestPathTree.NO_PREDECESSOR;
+        nearest[source] = source;
+        this.touched[this.touchedCount++] = source;
+        q.insert(source, 0);
+        while (settled < limit && !q.isHeapEmpty()) {
+            int u = q.removeMin();
+            if (u < 0) {
+                throw new Exception(ALGO_EXCEPTION);
+            }
+            if (settledOut != null) {
+                settledOut[settled] = u;
+            }
+            settled++;
+            if (u == target) {
+                break;
+            }
+            int base = costs[u];
+            for (int e = g.edgeBegin(u); e < g.edgeEnd(u); e++) {
+                int v = g.edgeTarget(e);
+                int toReach = base + g.edgeCost(e);
+                if (toReach < 0) {
+                    toReach = INFINITY;
+                }
+                if (toReach < costs[v]) {
+                    if (costs[v] == INFINITY) {
+                        this.touched[this.touchedCount++] = v;
+                        nearest[v] = source;
+                        q.insert(v, toReach);
+                    } else {
+                        q.decreaseKey(v, toReach);
+                    }
+                    costs[v] = toReach;
+                    pred[v] = u;
+                }
+            }
+        }
+        return settled;
+    }
+}
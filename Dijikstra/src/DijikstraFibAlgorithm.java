@@ -4,54 +4,97 @@
  */
 
 
-import java.util.List;
 /**
  * Class to run the shortest path algorithm using fibonacci scheme.
  * A Fibonacci heap is used by this scheme to determine
- * the next smallest vertex to visit.
+ * the next smallest vertex to visit. The heap keeps its nodes in
+ * primitive arrays indexed by vertex number and the run itself is done
+ * by the DijikstraEngine.
  * @author Sakthivel Manikam Arunachalam
  * @version 1.0
  */
 public class DijikstraFibAlgorithm {
 
     /**
-     * Static String for Algorithm exception.
+     * Constructor used to initialize the graph variables.
+     * The graph is frozen into a CsrGraph snapshot for the run.
+     * @param g graph on which algorithm is run
+     * @param s source node in the graph
      */
-    private static final String ALGO_EXCEPTION = "Dijikstra fibonacci algorithm exception";
+    public DijikstraFibAlgorithm(Graph g, short s) {
+        this(new CsrGraph(g), s);
+    }
 
 
     /**
-     * Constructor used to initialize the graph variables.
-     * @param g graph on which algorithm is run
+     * Constructor used to run the algorithm on a CSR snapshot.
+     * Vertices are int indexed so graphs beyond 32767 vertices work.
+     * @param g graph snapshot on which algorithm is run
      * @param s source node in the graph
      */
-    public DijikstraFibAlgorithm(Graph g, short s) {
-        this.myGraph = g;
-        this.source = s;
-        this.pathCostsFib = new Integer[g.getNumberOfVertices()];
+    public DijikstraFibAlgorithm(ICsrGraph g, int s) {
+        this(g, s, QueueType.FIBONACCI);
     }
 
 
     /**
-     * Graph Object.
+     * Constructor used to run the scheme with another priority queue,
+     * for example the radix heap for comparison with the fibonacci heap.
+     * @param g graph snapshot on which algorithm is run
+     * @param s source node in the graph
+     * @param type type of priority queue to use
      */
-    private Graph myGraph;
+    public DijikstraFibAlgorithm(ICsrGraph g, int s, QueueType type) {
+        this.source = s;
+        this.engine = new DijikstraEngine(g, type);
+    }
+
+
     /**
      * Source node.
      */
-    private short source;
+    private int source;
     /**
-     * Cost of path from source to all nodes in fibonacci scheme.
+     * Engine that runs the algorithm on an array backed fibonacci heap,
+     * reused by every run.
      */
-    private Integer[] pathCostsFib;
+    private DijikstraEngine engine;
+
+
+    /**
+     * Setter for the lazy insertion mode.
+     * When on, a vertex enters the heap only when it is first reached
+     * and decreaseKey is used only for vertices already in the heap.
+     * @param lazy true to insert vertices on first reach
+     */
+    public final void setLazyInsertion(final boolean lazy) {
+        this.engine.setLazyInsertion(lazy);
+    }
 
 
     /**
      * getter for path costs from source to other nodes.
+     * The costs are boxed into a new array on every call,
+     * getDistances() returns them without the copy.
      * @return the path costs to the caller
      */
     public final Integer[] getPathCostsFib() {
-        return pathCostsFib;
+        int[] pathCostsFib = this.engine.getDistances();
+        Integer[] boxedCosts = new Integer[pathCostsFib.length];
+        for (int i = 0; i < pathCostsFib.length; i++) {
+            boxedCosts[i] = pathCostsFib[i];
+        }
+        return boxedCosts;
+    }
+
+
+    /**
+     * getter for path costs from source to other nodes without boxing.
+     * Unreachable vertices have the cost DijikstraEngine.INFINITY.
+     * @return the path costs to the caller
+     */
+    public final int[] getDistances() {
+        return this.engine.getDistances();
     }
 
 
@@ -61,30 +104,80 @@ public class DijikstraFibAlgorithm {
      * @throws Exception when encountered with exceptional cases
      */
     public final void runFibonacciAlgorithm() throws Exception {
+        this.engine.run(this.source);
+    }
 
-        FibonacciHeap dijikstraHeap = new FibonacciHeap();
-        FibonacciHeap.Node[] newNodeArray = new FibonacciHeap.Node[this.myGraph.getNumberOfVertices()];
-        this.pathCostsFib[this.source] = 0;
-        for (int i = 0; i < this.myGraph.getNumberOfVertices(); i++) {
-            if (i != this.source) {
-                this.pathCostsFib[i] = Integer.MAX_VALUE;
-            }
-            newNodeArray[i] = dijikstraHeap.insert(i, this.pathCostsFib[i]);
-        }
-        while (dijikstraHeap.returnMin() != null) {
-            FibonacciHeap.Node min = dijikstraHeap.removeMin();
-            if (min == null) {
-                throw new Exception(ALGO_EXCEPTION);
-            }
-            List<Edge> neighbors = this.myGraph.getAdjacencyList().get(min.getNodeNumber());
-            for (int i = 0; i < neighbors.size(); i++) {
-                Edge e = neighbors.get(i);
-                Integer toReach = this.pathCostsFib[min.getNodeNumber()] + e.getEdgeCost();
-                if (toReach < this.pathCostsFib[e.getNeighborNumber()]) {
-                    this.pathCostsFib[e.getNeighborNumber()] = toReach;
-                    dijikstraHeap.decreaseKey(newNodeArray[e.getNeighborNumber()], toReach.intValue());
-                }
-            }
-        }
+
+    /**
+     * getter for the predecessor of every node on its shortest path.
+     * Only meaningful for vertices with a cost below
+     * DijikstraEngine.INFINITY.
+     * @return the predecessors to the caller
+     */
+    public final int[] getPredecessors() {
+        return this.engine.getPredecessors();
+    }
+
+
+    /**
+     * Copies the result of the last run into a shortest path tree.
+     * @return shortest path tree of the last run
+     */
+    public final ShortestPathTree getShortestPathTree() {
+        return this.engine.getShortestPathTree();
+    }
+
+
+    /**
+     * getter for the nearest source of every node.
+     * @return the nearest source of the last multi source run,
+     * DijikstraEngine.NO_SOURCE for unreachable nodes
+     */
+    public final int[] getNearestSources() {
+        return this.engine.getNearestSources();
+    }
+
+
+    /**
+     * Run the Dijikstra Algorithm in fibonacci scheme from a set of
+     * sources, for example to find the nearest depot of every vertex.
+     * The heap is seeded with all sources at key 0, so one run gives
+     * every vertex the cost to its nearest source and getNearestSources()
+     * labels it with that source.
+     * @param sources source nodes in the graph
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void runMultiSourceAlgorithm(final int[] sources) throws Exception {
+        this.engine.runMultiSource(sources);
+    }
+
+
+    /**
+     * Cost of the shortest path between two vertices in fibonacci scheme.
+     * Stops as soon as the target is settled instead of running the
+     * whole graph.
+     * @param s source node in the graph
+     * @param target target node in the graph
+     * @return cost of the shortest path, DijikstraEngine.INFINITY when
+     * the target is not reachable
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final int shortestDistance(final int s, final int target)
+            throws Exception {
+        return this.engine.shortestDistance(s, target);
+    }
+
+
+    /**
+     * The k vertices nearest to a source in fibonacci scheme.
+     * Stops as soon as k vertices are settled, their costs can be read
+     * from getDistances().
+     * @param s source node in the graph
+     * @param k number of vertices to find
+     * @return up to k vertices in the order of their cost
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final int[] kNearest(final int s, final int k) throws Exception {
+        return this.engine.kNearest(s, k);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,177 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of undirected edges.
+ * Every edge is packed into one long with the smaller vertex number in
+ * the high 32 bits, so (v1, v2) and (v2, v1) map to the same key and
+ * lookups are O(1) expected without any object per edge.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class EdgeIndex {
+
+    /**
+     * STATIC long marking an empty slot, valid keys are never negative.
+     */
+    private static final long EMPTY = -1L;
+    /**
+     * STATIC int for the smallest table size.
+     */
+    private static final int MIN_CAPACITY = 16;
+    /**
+     * Hash table of packed edges.
+     */
+    private long[] table;
+    /**
+     * Mask used to wrap probe positions, table length - 1.
+     */
+    private int mask;
+    /**
+     * Number of edges in the index.
+     */
+    private int size;
+
+
+    /**
+     * Constructor with the default capacity.
+     */
+    public EdgeIndex() {
+        this(MIN_CAPACITY);
+    }
+
+
+    /**
+     * Constructor sized for the expected number of edges.
+     * The table is kept at most half full.
+     * @param expectedEdges expected number of edges
+     */
+    public EdgeIndex(final int expectedEdges) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < 2L * expectedEdges && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        this.table = new long[capacity];
+        Arrays.fill(this.table, EMPTY);
+        this.mask = capacity - 1;
+        this.size = 0;
+    }
+
+
+    /**
+     * getter for number of edges in the index.
+     * @return number of edges
+     */
+    public final int size() {
+        return this.size;
+    }
+
+
+    /**
+     * Removes all edges and keeps the allocated table.
+     */
+    public final void clear() {
+        Arrays.fill(this.table, EMPTY);
+        this.size = 0;
+    }
+
+
+    /**
+     * Returns whether the edge is in the index.
+     * @param v1 first end point
+     * @param v2 second end point
+     * @return true if edge present
+     */
+    public final boolean contains(final int v1, final int v2) {
+        long key = pack(v1, v2);
+        for (int i = slot(key);; i = (i + 1) & this.mask) {
+            long k = this.table[i];
+            if (k == key) {
+                return true;
+            }
+            if (k == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+
+    /**
+     * Adds the edge to the index.
+     * @param v1 first end point
+     * @param v2 second end point
+     * @return true if edge added, false if it was already present
+     */
+    public final boolean add(final int v1, final int v2) {
+        if (2 * (this.size + 1) > this.table.length) {
+            rehash(this.table.length << 1);
+        }
+        long key = pack(v1, v2);
+        for (int i = slot(key);; i = (i + 1) & this.mask) {
+            long k = this.table[i];
+            if (k == key) {
+                return false;
+            }
+            if (k == EMPTY) {
+                this.table[i] = key;
+                this.size++;
+                return true;
+            }
+        }
+    }
+
+
+    /**
+     * Moves all keys into a larger table.
+     * @param capacity new table length, a power of two
+     */
+    private void rehash(final int capacity) {
+        long[] old = this.table;
+        this.table = new long[capacity];
+        Arrays.fill(this.table, EMPTY);
+        this.mask = capacity - 1;
+        for (int j = 0; j < old.length; j++) {
+            long key = old[j];
+            if (key != EMPTY) {
+                int i = slot(key);
+                while (this.table[i] != EMPTY) {
+                    i = (i + 1) & this.mask;
+                }
+                this.table[i] = key;
+            }
+        }
+    }
+
+
+    /**
+     * Home slot of a key, spreads the bits with a 64 bit finalizer.
+     * @param key packed edge
+     * @return slot index
+     */
+    private int slot(final long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h & this.mask;
+    }
+
+
+    /**
+     * Packs an undirected edge into a long.
+     * @param v1 first end point
+     * @param v2 second end point
+     * @return packed edge
+     */
+    private static long pack(final int v1, final int v2) {
+        if (v1 < v2) {
+            return ((long) v1 << 32) | v2;
+        }
+        return ((long) v2 << 32) | v1;
+    }
+}
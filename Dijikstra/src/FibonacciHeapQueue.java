@@ -0,0 +1,105 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Adapter that exposes the node based FibonacciHeap as a DecreaseKeyQueue.
+ * The heap nodes come from the pool of the heap and are looked up by
+ * vertex number for decreaseKey.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class FibonacciHeapQueue implements DecreaseKeyQueue {
+
+    /**
+     * Constructor to initialize a new queue.
+     * @param n number of vertices that can be stored in the queue
+     */
+    public FibonacciHeapQueue(final int n) {
+        this.heap = new FibonacciHeap(n);
+        this.nodes = new FibonacciHeap.Node[n];
+        this.inHeap = new boolean[n];
+    }
+
+
+    /**
+     * The fibonacci heap.
+     */
+    private final FibonacciHeap heap;
+    /**
+     * Heap node of every vertex.
+     */
+    private final FibonacciHeap.Node[] nodes;
+    /**
+     * Whether the vertex is currently in the heap.
+     */
+    private final boolean[] inHeap;
+
+
+    /**
+     * Insert a vertex in the heap.
+     * @param v vertex number
+     * @param keyVal key value of the vertex
+     */
+    @Override
+    public final void insert(final int v, final int keyVal) {
+        nodes[v] = heap.insert(v, keyVal);
+        inHeap[v] = true;
+    }
+
+
+    /**
+     * Removes the vertex with the minimum key from the heap.
+     * @return the minimum vertex
+     * @throws Exception when the heap is empty
+     */
+    @Override
+    public final int removeMin() throws Exception {
+        int v = heap.removeMin().getNodeNumber();
+        inHeap[v] = false;
+        return v;
+    }
+
+
+    /**
+     * Decreases the key of a vertex in the heap.
+     * @param v vertex number
+     * @param keyVal new key value
+     */
+    @Override
+    public final void decreaseKey(final int v, final int keyVal) {
+        heap.decreaseKey(nodes[v], keyVal);
+    }
+
+
+    /**
+     * Returns whether the vertex is currently in the heap.
+     * @param v vertex number
+     * @return true if the vertex is in the heap
+     */
+    @Override
+    public final boolean contains(final int v) {
+        return inHeap[v];
+    }
+
+
+    /**
+     * Returns true if the heap is empty.
+     * @return true if heap is empty
+     */
+    @Override
+    public final boolean isHeapEmpty() {
+        return heap.isHeapEmpty();
+    }
+
+
+    /**
+     * Removes all vertices from the heap so it can be reused.
+     */
+    @Override
+    public final void clear() {
+        heap.clear(inHeap);
+    }
+}
@@ -0,0 +1,485 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads a graph input file into a CsrGraph.
+ * Vertices are int indexed and the edges are collected in primitive
+ * arrays, so the reader scales to graphs with millions of vertices.
+ * The file is read in large blocks through a channel and the numbers
+ * are parsed straight from the bytes by a LineTokenizer, no String or
+ * array is created per line.
+ * A file can also be read by several threads, the edge lines are then
+ * split into chunks at line boundaries and every chunk is parsed into
+ * its own edge buffer, which also sorts its edges into one vertex block
+ * per thread, so the merge of the buffers is split by vertex block.
+ * Format of the input file ||
+ *  x ||
+ *  n m ||
+ *  v1 v2 cost (m lines) ||
+ *  x - source vertex number
+ *  n - number of vertices
+ *  m - number of edges
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class GraphFileReader {
+
+    /**
+     * Static strings for Exceptions.
+     */
+    private static final String WRONG_ARGUMENTS = "Wrong arguments in input";
+    private static final String WRONG_FILE_INPUTS = "Wrong edge inputs in file";
+    private static final String READ_EXCEPTION = "Parallel read of the input file failed";
+    /**
+     * STATIC int for the size of the read buffer in bytes.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * STATIC int for the smallest chunk worth a thread of its own.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+    /**
+     * STATIC int for the number of header lines.
+     */
+    private static final int HEADER_LINES = 2;
+    /**
+     * STATIC int for the length of the shortest edge line "0 1 1\n".
+     */
+    private static final int MIN_EDGE_LINE = 6;
+
+    /**
+     * Constructor used to initialize the reader.
+     * A file input stream is read through its file channel.
+     * @param in input stream of the data input file
+     */
+    public GraphFileReader(final InputStream in) {
+        if (in instanceof FileInputStream) {
+            this.input = ((FileInputStream) in).getChannel();
+        } else {
+            this.input = Channels.newChannel(in);
+        }
+        this.sourceNode = -1;
+        this.numberOfNodes = 0;
+        this.numberOfEdges = 0;
+        this.numberOfLines = 0;
+        this.readTime = 0;
+        this.graph = null;
+    }
+
+
+    /**
+     * Channel of the data input file.
+     */
+    private final ReadableByteChannel input;
+    /**
+     * Source vertex of the graph.
+     */
+    private int sourceNode;
+    /**
+     * Number of vertices of the graph.
+     */
+    private int numberOfNodes;
+    /**
+     * Number of edges of the graph.
+     */
+    private int numberOfEdges;
+    /**
+     * Number of lines read from the file.
+     */
+    private long numberOfLines;
+    /**
+     * Time taken by read in nanoseconds.
+     */
+    private long readTime;
+    /**
+     * Graph read from the file.
+     */
+    private CsrGraph graph;
+
+
+    /**
+     * getter for the source vertex.
+     * @return source vertex
+     */
+    public final int getSourceNode() {
+        return this.sourceNode;
+    }
+
+
+    /**
+     * getter for number of vertices.
+     * @return number of vertices
+     */
+    public final int getNumberOfNodes() {
+        return this.numberOfNodes;
+    }
+
+
+    /**
+     * getter for number of edges.
+     * @return number of edges
+     */
+    public final int getNumberOfEdges() {
+        return this.numberOfEdges;
+    }
+
+
+    /**
+     * getter for the graph read from the file.
+     * @return the graph
+     */
+    public final CsrGraph getGraph() {
+        return this.graph;
+    }
+
+
+    /**
+     * getter for number of lines read from the file.
+     * @return number of lines
+     */
+    public final long getNumberOfLines() {
+        return this.numberOfLines;
+    }
+
+
+    /**
+     * getter for the time taken by read.
+     * @return read time in milliseconds
+     */
+    public final long getReadTime() {
+        return this.readTime / 1000000L;
+    }
+
+
+    /**
+     * getter for the parsing throughput of the last read.
+     * @return lines read per second
+     */
+    public final long getLinesPerSecond() {
+        if (this.readTime == 0) {
+            return 0;
+        }
+        return (long) (this.numberOfLines * 1e9 / this.readTime);
+    }
+
+
+    /**
+     * Read and validate the whole input file on the calling thread.
+     * Values are separated by spaces or tabs, carriage returns are ignored.
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void read() throws Exception {
+        long start = System.nanoTime();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        LineParser parser = new LineParser(true, null);
+        int r;
+        try {
+            while ((r = this.input.read(buffer)) >= 0) {
+                parser.parse(buffer.array(), 0, r);
+                buffer.clear();
+            }
+            parser.endOfInput();
+        } catch (IllegalArgumentException ex) {
+            throw LineTokenizer.atLine(ex, parser.getNumberOfLines());
+        }
+        EdgeBuffer edges = parser.edges;
+        if (edges == null || edges.size() != this.numberOfEdges) {
+            throw new InputMismatchException("Insufficient Edges in input");
+        }
+        this.graph = edges.toCsrGraph(this.numberOfNodes);
+        this.numberOfLines = parser.getNumberOfLines();
+        this.readTime = System.nanoTime() - start;
+    }
+
+
+    /**
+     * Read and validate the whole input file with several threads.
+     * The header is parsed first, the edge lines are then split into one
+     * chunk per thread at line boundaries and the chunks are parsed in
+     * parallel. Errors report the line number in the file. Falls back
+     * to read when the input is not a file or too small to split.
+     * The edge buffer of a chunk is sized from the header but never for
+     * more edge lines than the chunk can hold.
+     * @param threads number of threads to use
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void read(final int threads) throws Exception {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        if (threads == 1 || !(this.input instanceof FileChannel)) {
+            read();
+            return;
+        }
+        long start = System.nanoTime();
+        final FileChannel channel = (FileChannel) this.input;
+        long base = channel.position();
+        long size = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, base + buffer.position()) < 0) {
+                break;
+            }
+        }
+        int headerEnd = lineStart(buffer.array(), 0, buffer.position(), HEADER_LINES);
+        int chunks = 0;
+        if (headerEnd >= 0) {
+            chunks = (int) Math.min(threads, (size - base - headerEnd) / MIN_CHUNK_SIZE);
+        }
+        if (chunks <= 1) {
+            read();
+            return;
+        }
+
+        LineParser header = new LineParser(true, new EdgeBuffer());
+        try {
+            header.parse(buffer.array(), 0, headerEnd);
+        } catch (IllegalArgumentException ex) {
+            throw LineTokenizer.atLine(ex, header.getNumberOfLines());
+        }
+
+        long edgeStart = base + headerEnd;
+        long length = size - edgeStart;
+        final long[] bounds = new long[chunks + 1];
+        bounds[0] = edgeStart;
+        bounds[chunks] = size;
+        for (int c = 1; c < chunks; c++) {
+            long nominal = edgeStart + length * c / chunks;
+            bounds[c] = Math.max(bounds[c - 1], nextLineStart(channel, nominal, size));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(chunks);
+        try {
+            List<Future<LineParser>> parts = new ArrayList<>(chunks);
+            for (int c = 0; c < chunks; c++) {
+                final int chunk = c;
+                final int blocks = chunks;
+                long chunkLength = bounds[c + 1] - bounds[c];
+                final int capacity = (int) Math.min(Integer.MAX_VALUE - 8, 16 + Math.min(
+                        chunkLength / MIN_EDGE_LINE, (long) this.numberOfEdges * chunkLength / length));
+                parts.add(pool.submit(new Callable<LineParser>() {
+                    @Override
+                    public LineParser call() throws Exception {
+                        return parseChunk(channel, bounds[chunk], bounds[chunk + 1], capacity, blocks);
+                    }
+                }));
+            }
+            EdgeBuffer[] buffers = new EdgeBuffer[chunks];
+            long line = HEADER_LINES;
+            long total = 0;
+            for (int c = 0; c < chunks; c++) {
+                LineParser parser = parts.get(c).get();
+                if (parser.failure != null) {
+                    throw LineTokenizer.atLine(parser.failure, line + parser.getNumberOfLines());
+                }
+                line += parser.getNumberOfLines();
+                total += parser.edges.size();
+                buffers[c] = parser.edges;
+            }
+            if (total != this.numberOfEdges) {
+                throw new InputMismatchException("Insufficient Edges in input");
+            }
+            this.graph = EdgeBuffer.toCsrGraph(buffers, this.numberOfNodes, pool);
+            this.numberOfLines = line;
+        } catch (ExecutionException ex) {
+            throw new Exception(READ_EXCEPTION, ex.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        this.readTime = System.nanoTime() - start;
+    }
+
+
+    /**
+     * Parses the edge lines of one chunk of the file.
+     * A parse error is kept in the parser so that the caller can turn
+     * the line number of the chunk into the line number of the file.
+     * @param channel channel of the data input file
+     * @param from byte position of the first line of the chunk
+     * @param to byte position after the chunk
+     * @param capacity expected number of edges in the chunk
+     * @param blocks number of vertex blocks the edges are split into for
+     *        the merge
+     * @return the parser holding the edges of the chunk
+     * @throws Exception when the file cannot be read
+     */
+    private LineParser parseChunk(final FileChannel channel, final long from,
+            final long to, final int capacity, final int blocks) throws Exception {
+        LineParser parser = new LineParser(false,
+                new EdgeBuffer(capacity, this.numberOfNodes, blocks));
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long position = from;
+        try {
+            while (position < to) {
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE, to - position));
+                int r = channel.read(buffer, position);
+                if (r < 0) {
+                    break;
+                }
+                position += r;
+                parser.parse(buffer.array(), 0, r);
+            }
+            parser.endOfInput();
+        } catch (IllegalArgumentException ex) {
+            parser.failure = ex;
+        }
+        return parser;
+    }
+
+
+    /**
+     * Finds the start of the line after a number of line ends.
+     * @param bytes bytes to search
+     * @param from first position to search
+     * @param to position after the last byte to search
+     * @param lines number of line ends to pass
+     * @return position after the last passed line end, -1 if not found
+     */
+    private static int lineStart(final byte[] bytes, final int from,
+            final int to, final int lines) {
+        int remaining = lines;
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n' && --remaining == 0) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+
+    /**
+     * Finds the start of the first line beginning at or after a position.
+     * @param channel channel of the data input file
+     * @param position byte position to start from, greater than 0
+     * @param size size of the file
+     * @return byte position of the line start, size if there is none
+     * @throws Exception when the file cannot be read
+     */
+    private static long nextLineStart(final FileChannel channel,
+            final long position, final long size) throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long p = position - 1;
+        while (p < size) {
+            buffer.clear();
+            int r = channel.read(buffer, p);
+            if (r < 0) {
+                break;
+            }
+            int i = lineStart(buffer.array(), 0, r, 1);
+            if (i >= 0) {
+                return p + i;
+            }
+            p += r;
+        }
+        return size;
+    }
+
+
+    /**
+     * Parser of the lines of the input file fed in blocks of bytes.
+     * The lines are split and tokenized by LineTokenizer, a line may be
+     * split over any number of blocks.
+     */
+    private final class LineParser extends LineTokenizer {
+
+        /**
+         * Constructor of a parser.
+         * @param hasHeader whether the first lines are the header lines
+         * @param buffer buffer for the edges, null to allocate one sized
+         *        from the header
+         */
+        LineParser(final boolean hasHeader, final EdgeBuffer buffer) {
+            this.header = hasHeader;
+            this.edges = buffer;
+        }
+
+
+        /**
+         * Whether the first lines are the header lines.
+         */
+        private final boolean header;
+        /**
+         * Edges collected from the edge lines.
+         */
+        private EdgeBuffer edges;
+        /**
+         * Error of a chunk parsed on a worker thread.
+         */
+        private IllegalArgumentException failure;
+
+
+        /**
+         * Validates the current line and stores its values.
+         * @throws Exception when encountered with exceptional cases
+         */
+        @Override
+        protected final void parseLine() throws Exception {
+            long line = getNumberOfLines();
+            if (this.header && line == 0) {
+                int source = nextInt();
+                if (hasToken()) {
+                    throw new IllegalArgumentException(WRONG_ARGUMENTS);
+                }
+                sourceNode = source;
+            } else if (this.header && line == 1) {
+                int n = nextInt();
+                int m = nextInt();
+                if (hasToken()) {
+                    throw new IllegalArgumentException(WRONG_ARGUMENTS);
+                }
+                numberOfNodes = n;
+                if (numberOfNodes <= 0) {
+                    throw new IllegalArgumentException(WRONG_ARGUMENTS);
+                }
+                if (sourceNode < 0 || sourceNode >= numberOfNodes) {
+                    throw new IllegalArgumentException(WRONG_ARGUMENTS);
+                }
+                numberOfEdges = m;
+                if (numberOfEdges < (numberOfNodes - 1)) {
+                    throw new Exception("Insufficient number of edges to form connected graph");
+                }
+                if (this.edges == null) {
+                    this.edges = new EdgeBuffer(Math.min(numberOfEdges, EdgeBuffer.MAX_PREALLOCATED));
+                }
+            } else {
+                int v1 = nextInt();
+                int v2 = nextInt();
+                int cost = nextInt();
+                if (hasToken()) {
+                    throw new IllegalArgumentException(WRONG_ARGUMENTS);
+                }
+                if (v1 == v2) {
+                    throw new IllegalArgumentException(WRONG_FILE_INPUTS);
+                }
+                if (v1 < 0 || v1 >= numberOfNodes) {
+                    throw new IllegalArgumentException(WRONG_FILE_INPUTS);
+                }
+                if (v2 < 0 || v2 >= numberOfNodes) {
+                    throw new IllegalArgumentException(WRONG_FILE_INPUTS);
+                }
+                if (cost <= 0) {
+                    throw new IllegalArgumentException(WRONG_FILE_INPUTS);
+                }
+                this.edges.add(v1, v2, cost);
+            }
+        }
+    }
+}
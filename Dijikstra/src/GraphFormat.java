@@ -0,0 +1,110 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.io.InputStream;
+
+/**
+ * Public graph file formats that can be read besides the input format.
+ * Each format is selected on the command line by its name or picked from
+ * the extension of the file.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public enum GraphFormat {
+
+    /**
+     * DIMACS shortest path challenge graph, directed arcs.
+     */
+    DIMACS("dimacs", ".gr") {
+        @Override
+        public GraphImporter create(final InputStream in) {
+            return new DimacsReader(in);
+        }
+    },
+    /**
+     * METIS graph, undirected edges.
+     */
+    METIS("metis", ".graph", ".metis") {
+        @Override
+        public GraphImporter create(final InputStream in) {
+            return new MetisReader(in);
+        }
+    },
+    /**
+     * Matrix Market coordinate matrix.
+     */
+    MATRIX_MARKET("mtx", ".mtx") {
+        @Override
+        public GraphImporter create(final InputStream in) {
+            return new MatrixMarketReader(in);
+        }
+    };
+
+    /**
+     * Name used on the command line.
+     */
+    private final String formatName;
+    /**
+     * File extensions of the format.
+     */
+    private final String[] extensions;
+
+    /**
+     * Constructor for the formats.
+     * @param name name used on the command line
+     * @param ext file extensions of the format
+     */
+    GraphFormat(final String name, final String... ext) {
+        this.formatName = name;
+        this.extensions = ext;
+    }
+
+    /**
+     * getter for the command line name.
+     * @return the format name
+     */
+    public final String getFormatName() {
+        return this.formatName;
+    }
+
+    /**
+     * Creates a reader of the format.
+     * @param in input stream of the file
+     * @return the new reader
+     */
+    public abstract GraphImporter create(InputStream in);
+
+    /**
+     * Looks up a format by its command line name.
+     * @param name the format name
+     * @return the format
+     */
+    public static GraphFormat fromName(final String name) {
+        for (GraphFormat format : values()) {
+            if (format.formatName.equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown graph format : " + name);
+    }
+
+    /**
+     * Looks up a format by the extension of a file.
+     * @param path path of the file
+     * @return the format, null if the extension is not known
+     */
+    public static GraphFormat fromPath(final String path) {
+        String lower = path.toLowerCase();
+        for (GraphFormat format : values()) {
+            for (String ext : format.extensions) {
+                if (lower.endsWith(ext)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Base of the readers for the public graph file formats.
+ * The file is read in large blocks through a channel and split into
+ * lines by the LineTokenizer shared with GraphFileReader, every line is
+ * handed to the format, which parses its numbers straight from the
+ * bytes. The edges go into an EdgeBuffer and become a CsrGraph like the
+ * edges of the input files read by GraphFileReader. Vertices are 0
+ * based once read.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public abstract class GraphImporter extends LineTokenizer {
+
+    /**
+     * Static strings for Exceptions.
+     */
+    protected static final String WRONG_FILE_INPUTS = "Wrong edge inputs in file";
+    /**
+     * STATIC int for the size of the read buffer in bytes.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Constructor used to initialize the importer.
+     * A file input stream is read through its file channel.
+     * @param in input stream of the graph file
+     */
+    protected GraphImporter(final InputStream in) {
+        super();
+        if (in instanceof FileInputStream) {
+            this.input = ((FileInputStream) in).getChannel();
+        } else {
+            this.input = Channels.newChannel(in);
+        }
+        this.numberOfNodes = 0;
+        this.numberOfEdges = 0;
+        this.directed = false;
+        this.edges = null;
+        this.graph = null;
+    }
+
+
+    /**
+     * Channel of the graph file.
+     */
+    private final ReadableByteChannel input;
+    /**
+     * Number of vertices of the graph.
+     */
+    private int numberOfNodes;
+    /**
+     * Number of edges announced by the file, once read the number of
+     * edges added.
+     */
+    private int numberOfEdges;
+    /**
+     * Whether the edges are arcs kept only in their own direction.
+     */
+    private boolean directed;
+    /**
+     * Edges collected while reading.
+     */
+    private EdgeBuffer edges;
+    /**
+     * Graph read from the file, null when the file holds no graph.
+     */
+    private CsrGraph graph;
+
+
+    /**
+     * getter for number of vertices.
+     * @return number of vertices
+     */
+    public final int getNumberOfNodes() {
+        return this.numberOfNodes;
+    }
+
+
+    /**
+     * getter for number of edges.
+     * While the file is read this is the count announced by the file,
+     * once read it is the number of edges added to the graph, which is
+     * lower when the format skips some of the announced entries.
+     * @return number of edges, or arcs for a directed graph
+     */
+    public final int getNumberOfEdges() {
+        return this.numberOfEdges;
+    }
+
+
+    /**
+     * Returns whether the graph keeps every arc only in its direction.
+     * @return true for a directed graph
+     */
+    public final boolean isDirected() {
+        return this.directed;
+    }
+
+
+    /**
+     * getter for the graph read from the file.
+     * @return the graph, null when the file holds no graph
+     */
+    public final CsrGraph getGraph() {
+        return this.graph;
+    }
+
+
+    /**
+     * Read and validate the whole file.
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void read() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        int r;
+        try {
+            while ((r = this.input.read(buffer)) >= 0) {
+                parse(buffer.array(), 0, r);
+                buffer.clear();
+            }
+            endOfInput();
+            finish();
+        } catch (IllegalArgumentException ex) {
+            throw atLine(ex, getNumberOfLines());
+        }
+        if (this.edges != null) {
+            this.numberOfEdges = this.edges.size();
+            if (this.directed) {
+                this.graph = this.edges.toDirectedCsrGraph(this.numberOfNodes);
+            } else {
+                this.graph = this.edges.toCsrGraph(this.numberOfNodes);
+            }
+            this.edges = null;
+        }
+    }
+
+
+    /**
+     * Validates the file once all lines are parsed.
+     * @throws Exception when encountered with exceptional cases
+     */
+    protected abstract void finish() throws Exception;
+
+
+    /**
+     * Sets the size of the graph and prepares the edge buffer.
+     * @param n number of vertices
+     * @param m number of edges announced by the file
+     * @param isDirected whether the edges are arcs
+     */
+    protected final void startGraph(final int n, final int m,
+            final boolean isDirected) {
+        if (this.edges != null || n <= 0 || m < 0) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        this.numberOfNodes = n;
+        this.numberOfEdges = m;
+        this.directed = isDirected;
+        this.edges = new EdgeBuffer(Math.min(m, EdgeBuffer.MAX_PREALLOCATED));
+    }
+
+
+    /**
+     * Adds a validated edge, or arc for a directed graph.
+     * @param v1 first end point, 0 based
+     * @param v2 second end point, 0 based
+     * @param cost cost of the edge
+     */
+    protected final void addEdge(final int v1, final int v2, final int cost) {
+        if (this.edges == null) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        if (v1 == v2 || cost <= 0) {
+            throw new IllegalArgumentException(WRONG_FILE_INPUTS);
+        }
+        if (v1 < 0 || v1 >= this.numberOfNodes || v2 < 0 || v2 >= this.numberOfNodes) {
+            throw new IllegalArgumentException(WRONG_FILE_INPUTS);
+        }
+        this.edges.add(v1, v2, cost);
+    }
+
+
+    /**
+     * getter for number of edges added so far.
+     * @return number of edges added
+     */
+    protected final int getEdgeCount() {
+        return this.edges == null ? 0 : this.edges.size();
+    }
+}
@@ -0,0 +1,321 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Class to hold the landmark distance tables used by the ALT search.
+ * For every landmark the cost of the shortest path to every vertex is
+ * stored. The table is laid out vertex by vertex, the k landmark costs
+ * of a vertex are next to each other, so computing the lower bound of
+ * a vertex reads one small block of the array.
+ * The landmarks are picked by farthest point selection on hop counts,
+ * every new landmark is the vertex with the most edges to the nearest
+ * landmark chosen so far. The cost tables are then computed with one
+ * fibonacci heap run per landmark, in parallel over the landmarks.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class LandmarkTable implements Serializable {
+
+    /**
+     * Serial version of the table format.
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * Static String for Algorithm exception.
+     */
+    private static final String BUILD_EXCEPTION = "Landmark table could not be built";
+    /**
+     * Static String for a wrong stream content.
+     */
+    private static final String NOT_A_TABLE = "Stream does not hold a landmark table";
+    /**
+     * Static String for directed graph exception.
+     */
+    private static final String DIRECTED_GRAPH = "Landmark table needs an undirected graph";
+
+
+    /**
+     * Constructor used to wrap already computed tables.
+     * @param n number of vertices
+     * @param marks landmark vertices
+     * @param costs landmark costs, vertex v and landmark i at v * k + i
+     */
+    public LandmarkTable(final int n, final int[] marks, final int[] costs) {
+        if ((long) n * marks.length != costs.length) {
+            throw new IllegalArgumentException("Landmark costs do not match the number of vertices");
+        }
+        this.numberOfVertices = n;
+        this.landmarks = marks;
+        this.landmarkCosts = costs;
+    }
+
+
+    /**
+     * Number of vertices of the graph.
+     */
+    private final int numberOfVertices;
+    /**
+     * Landmark vertices.
+     */
+    private final int[] landmarks;
+    /**
+     * Cost of path from every landmark to every vertex.
+     */
+    private final int[] landmarkCosts;
+
+
+    /**
+     * getter for number of vertices.
+     * @return number of vertices
+     */
+    public final int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+
+    /**
+     * getter for number of landmarks.
+     * @return number of landmarks
+     */
+    public final int getNumberOfLandmarks() {
+        return this.landmarks.length;
+    }
+
+
+    /**
+     * getter for a landmark vertex.
+     * @param i landmark index
+     * @return vertex number of the landmark
+     */
+    public final int getLandmark(final int i) {
+        return this.landmarks[i];
+    }
+
+
+    /**
+     * getter for the cost from a landmark to a vertex.
+     * @param i landmark index
+     * @param v vertex number
+     * @return cost of path, DijikstraEngine.INFINITY when not reachable
+     */
+    public final int getCost(final int i, final int v) {
+        return this.landmarkCosts[v * this.landmarks.length + i];
+    }
+
+
+    /**
+     * Lower bound of the cost of the path between two vertices.
+     * By the triangle inequality the path from v to t costs at least
+     * the difference of their costs from any landmark.
+     * @param v first vertex
+     * @param t second vertex
+     * @return lower bound of the path cost, DijikstraEngine.INFINITY when
+     * a landmark proves that there is no path
+     */
+    public final int lowerBound(final int v, final int t) {
+        int k = this.landmarks.length;
+        int[] costs = this.landmarkCosts;
+        int vBase = v * k;
+        int tBase = t * k;
+        int bound = 0;
+        for (int i = 0; i < k; i++) {
+            int cv = costs[vBase + i];
+            int ct = costs[tBase + i];
+            if (cv == DijikstraEngine.INFINITY || ct == DijikstraEngine.INFINITY) {
+                if (cv != ct) {
+                    return DijikstraEngine.INFINITY;
+                }
+                continue;
+            }
+            int diff = (cv > ct) ? cv - ct : ct - cv;
+            if (diff > bound) {
+                bound = diff;
+            }
+        }
+        return bound;
+    }
+
+
+    /**
+     * Writes the table to a stream.
+     * @param out stream receiving the table
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void save(final OutputStream out) throws Exception {
+        ObjectOutputStream objects = new ObjectOutputStream(out);
+        objects.writeObject(this);
+        objects.flush();
+    }
+
+
+    /**
+     * Reads a table written by save.
+     * @param in stream holding the table
+     * @return the table
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static LandmarkTable load(final InputStream in) throws Exception {
+        Object table = new ObjectInputStream(in).readObject();
+        if (!(table instanceof LandmarkTable)) {
+            throw new Exception(NOT_A_TABLE);
+        }
+        return (LandmarkTable) table;
+    }
+
+
+    /**
+     * Builds the landmark tables of a graph with one worker per processor.
+     * @param g graph snapshot
+     * @param k number of landmarks
+     * @return the landmark table
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static LandmarkTable build(final ICsrGraph g, final int k)
+            throws Exception {
+        return build(g, k, Runtime.getRuntime().availableProcessors());
+    }
+
+
+    /**
+     * Builds the landmark tables of a graph.
+     * The costs from a landmark are only lower bounds in both directions
+     * on an undirected graph, directed graphs are rejected.
+     * @param g undirected graph snapshot
+     * @param k number of landmarks, at most the number of vertices
+     * @param threads number of worker threads computing the tables
+     * @return the landmark table
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static LandmarkTable build(final ICsrGraph g, final int k,
+            final int threads) throws Exception {
+        if (g.isDirected()) {
+            throw new IllegalArgumentException(DIRECTED_GRAPH);
+        }
+        final int n = g.getNumberOfVertices();
+        if (k <= 0 || k > n || threads <= 0) {
+            throw new IllegalArgumentException("Wrong arguments in input");
+        }
+        if ((long) n * k > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Landmark table is too large for the graph");
+        }
+        int[] marks = selectLandmarks(g, k);
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, k));
+        int[] costs = new int[n * k];
+        try {
+            List<Future<int[]>> runs = new ArrayList<>(k);
+            for (int i = 0; i < k; i++) {
+                final int landmark = marks[i];
+                runs.add(pool.submit(new Callable<int[]>() {
+                    @Override
+                    public int[] call() throws Exception {
+                        DijikstraEngine engine = new DijikstraEngine(g, QueueType.FIBONACCI);
+                        engine.setLazyInsertion(true);
+                        engine.run(landmark);
+                        return engine.getDistances();
+                    }
+                }));
+            }
+            for (int i = 0; i < k; i++) {
+                int[] distances = runs.get(i).get();
+                for (int v = 0; v < n; v++) {
+                    costs[v * k + i] = distances[v];
+                }
+            }
+        } catch (ExecutionException ex) {
+            throw new Exception(BUILD_EXCEPTION, ex.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return new LandmarkTable(n, marks, costs);
+    }
+
+
+    /**
+     * Farthest point selection of the landmarks on hop counts.
+     * The first landmark is the vertex farthest from vertex 0, every
+     * further landmark is the vertex farthest from its nearest landmark.
+     * Vertices that no landmark reaches count as the farthest, so every
+     * component of the graph gets a landmark while landmarks remain.
+     * @param g graph snapshot
+     * @param k number of landmarks
+     * @return landmark vertices
+     */
+    private static int[] selectLandmarks(final ICsrGraph g, final int k) {
+        int n = g.getNumberOfVertices();
+        int[] nearest = new int[n];
+        int[] hops = new int[n];
+        int[] fifo = new int[n];
+        int[] marks = new int[k];
+        Arrays.fill(nearest, Integer.MAX_VALUE);
+        int next = farthest(g, 0, hops, fifo, null);
+        for (int i = 0; i < k; i++) {
+            marks[i] = next;
+            next = farthest(g, marks[i], hops, fifo, nearest);
+        }
+        return marks;
+    }
+
+
+    /**
+     * Breadth first search from a vertex.
+     * When nearest is given, it is lowered to the hop counts of this
+     * search and the vertex with the largest nearest value is returned.
+     * @param g graph snapshot
+     * @param s start vertex
+     * @param hops scratch array for the hop counts
+     * @param fifo scratch array for the queue of the search
+     * @param nearest hop count to the nearest landmark, or null
+     * @return the farthest vertex
+     */
+    private static int farthest(final ICsrGraph g, final int s,
+            final int[] hops, final int[] fifo, final int[] nearest) {
+        Arrays.fill(hops, -1);
+        int head = 0;
+        int tail = 0;
+        hops[s] = 0;
+        fifo[tail++] = s;
+        int last = s;
+        while (head < tail) {
+            int u = fifo[head++];
+            last = u;
+            for (int e = g.edgeBegin(u); e < g.edgeEnd(u); e++) {
+                int v = g.edgeTarget(e);
+                if (hops[v] < 0) {
+                    hops[v] = hops[u] + 1;
+                    fifo[tail++] = v;
+                }
+            }
+        }
+        if (nearest == null) {
+            return last;
+        }
+        int best = s;
+        for (int v = 0; v < hops.length; v++) {
+            if (hops[v] >= 0 && hops[v] < nearest[v]) {
+                nearest[v] = hops[v];
+            }
+            if (nearest[v] > nearest[best]) {
+                best = v;
+            }
+        }
+        return best;
+    }
+}
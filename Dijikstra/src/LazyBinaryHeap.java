@@ -0,0 +1,193 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.Arrays;
+
+/**
+ * Class to represent a binary heap without a real decreaseKey.
+ * A decreaseKey pushes another (key, vertex) entry and the outdated
+ * entries are skipped when they reach the top, so the heap never has to
+ * track positions. Every entry is packed into one long with the key in
+ * the high 32 bits, which keeps the sift loops on a single array.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class LazyBinaryHeap implements DecreaseKeyQueue {
+
+    /**
+     * Constructor to initialize a new heap.
+     * @param n number of vertices that can be stored in the heap
+     */
+    public LazyBinaryHeap(final int n) {
+        this.keyValue = new int[n];
+        this.inHeap = new boolean[n];
+        this.entries = new long[Math.max(n, 1)];
+        this.size = 0;
+        this.numberOfNodes = 0;
+    }
+
+
+    /**
+     * Current key value of every vertex.
+     */
+    private final int[] keyValue;
+    /**
+     * Whether the vertex is currently in the heap.
+     */
+    private final boolean[] inHeap;
+    /**
+     * Packed (key, vertex) entries in heap order, including outdated ones.
+     */
+    private long[] entries;
+    /**
+     * Number of entries in the heap array.
+     */
+    private int size;
+    /**
+     * number of vertices currently in the heap.
+     */
+    private int numberOfNodes;
+
+
+    /**
+     * getter for number of nodes.
+     * @return numberOfNodes in the heap
+     */
+    public final int getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+
+    /**
+     * Insert a vertex in the heap.
+     * @param v vertex number
+     * @param keyVal key value of the vertex
+     */
+    @Override
+    public final void insert(final int v, final int keyVal) {
+        keyValue[v] = keyVal;
+        inHeap[v] = true;
+        ++numberOfNodes;
+        push(v, keyVal);
+    }
+
+
+    /**
+     * Removes the vertex with the minimum key from the heap.
+     * @return the minimum vertex
+     * @throws Exception when the heap is empty
+     */
+    @Override
+    public final int removeMin() throws Exception {
+        while (size > 0) {
+            long top = entries[0];
+            long last = entries[--size];
+            if (size > 0) {
+                siftDown(last);
+            }
+            int v = (int) top;
+            if (inHeap[v] && keyValue[v] == (int) (top >> 32)) {
+                inHeap[v] = false;
+                if (--numberOfNodes == 0) {
+                    size = 0;
+                }
+                return v;
+            }
+        }
+        throw new Exception("Cannot remove minimum from empty heap");
+    }
+
+
+    /**
+     * Decreases the key of a vertex in the heap.
+     * @param v vertex number
+     * @param keyVal new key value
+     */
+    @Override
+    public final void decreaseKey(final int v, final int keyVal) {
+        keyValue[v] = keyVal;
+        push(v, keyVal);
+    }
+
+
+    /**
+     * Returns whether the vertex is currently in the heap.
+     * @param v vertex number
+     * @return true if the vertex is in the heap
+     */
+    @Override
+    public final boolean contains(final int v) {
+        return inHeap[v];
+    }
+
+
+    /**
+     * Returns true if the heap is empty.
+     * @return true if heap is empty
+     */
+    @Override
+    public final boolean isHeapEmpty() {
+        return numberOfNodes == 0;
+    }
+
+
+    /**
+     * Removes all vertices from the heap so it can be reused.
+     */
+    @Override
+    public final void clear() {
+        for (int i = 0; i < size; i++) {
+            inHeap[(int) entries[i]] = false;
+        }
+        size = 0;
+        numberOfNodes = 0;
+    }
+
+
+    /**
+     * Adds an entry to the heap array.
+     * @param v vertex number
+     * @param keyVal key value of the entry
+     */
+    private void push(final int v, final int keyVal) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        long entry = ((long) keyVal << 32) | (v & 0xffffffffL);
+        int i = size++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (entries[p] <= entry) {
+                break;
+            }
+            entries[i] = entries[p];
+            i = p;
+        }
+        entries[i] = entry;
+    }
+
+
+    /**
+     * Moves an entry down from the root hole until its children are larger.
+     * @param entry packed entry to place
+     */
+    private void siftDown(final long entry) {
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int c = 2 * i + 1;
+            if (c + 1 < size && entries[c + 1] < entries[c]) {
+                c++;
+            }
+            if (entry <= entries[c]) {
+                break;
+            }
+            entries[i] = entries[c];
+            i = c;
+        }
+        entries[i] = entry;
+    }
+}
@@ -0,0 +1,396 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Base of the parsers that read a text file as lines of numbers.
+ * The file is fed in blocks of bytes that are split into lines in place,
+ * only a line running over the end of a block is copied so that it can
+ * be completed by the next block. Every line is handed to parseLine,
+ * which reads its values with the token functions straight from the
+ * bytes, no String is created per line or number. Values are separated
+ * by spaces, tabs or carriage returns. The number of completed lines is
+ * the zero based number of the line being parsed, so errors can name it.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public abstract class LineTokenizer {
+
+    /**
+     * Static strings for Exceptions.
+     */
+    protected static final String WRONG_ARGUMENTS = "Wrong arguments in input";
+    private static final String WRONG_NUMBER = "Wrong number in input";
+    private static final String AT_LINE = " at line ";
+    /**
+     * STATIC int for the initial size of the buffer of a split line.
+     */
+    private static final int CARRY_SIZE = 256;
+    /**
+     * STATIC long for the largest magnitude of a parsed int.
+     */
+    private static final long MAX_MAGNITUDE = -(long) Integer.MIN_VALUE;
+    /**
+     * STATIC int for the significant digits kept of a real value.
+     */
+    private static final int MAX_REAL_DIGITS = 18;
+    /**
+     * STATIC int for the exponent magnitude beyond which every real value
+     * is zero or infinite.
+     */
+    private static final int MAX_EXPONENT = 1000;
+
+    /**
+     * Constructor used to initialize the tokenizer.
+     */
+    protected LineTokenizer() {
+        this.carry = new byte[CARRY_SIZE];
+        this.carried = 0;
+        this.numberOfLines = 0;
+    }
+
+
+    /**
+     * Bytes of a line split over blocks.
+     */
+    private byte[] carry;
+    /**
+     * Number of bytes in carry.
+     */
+    private int carried;
+    /**
+     * Number of completed lines, the zero based number of the line
+     * being parsed.
+     */
+    private long numberOfLines;
+    /**
+     * Bytes of the current line.
+     */
+    private byte[] lineBytes;
+    /**
+     * Parse position in the current line.
+     */
+    private int position;
+    /**
+     * Position after the current line.
+     */
+    private int lineEnd;
+
+
+    /**
+     * getter for number of lines completed.
+     * @return number of lines
+     */
+    public final long getNumberOfLines() {
+        return this.numberOfLines;
+    }
+
+
+    /**
+     * Parses a block of bytes.
+     * A last line without line end is kept until the next block or
+     * endOfInput.
+     * @param bytes bytes of the file
+     * @param from first position of the block
+     * @param to position after the block
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void parse(final byte[] bytes, final int from, final int to)
+            throws Exception {
+        int begin = from;
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n') {
+                if (this.carried > 0) {
+                    append(bytes, begin, i);
+                    int length = this.carried;
+                    this.carried = 0;
+                    line(this.carry, 0, length);
+                } else {
+                    line(bytes, begin, i);
+                }
+                begin = i + 1;
+            }
+        }
+        append(bytes, begin, to);
+    }
+
+
+    /**
+     * Parses a last line that has no line end.
+     * The line is skipped when it holds nothing but a carriage return.
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void endOfInput() throws Exception {
+        int length = this.carried;
+        this.carried = 0;
+        if (length > 1 || (length == 1 && this.carry[0] != '\r')) {
+            line(this.carry, 0, length);
+        }
+    }
+
+
+    /**
+     * Keeps the bytes of an unfinished line.
+     * @param bytes bytes of the file
+     * @param from first position to keep
+     * @param to position after the last byte to keep
+     */
+    private void append(final byte[] bytes, final int from, final int to) {
+        int length = to - from;
+        if (length <= 0) {
+            return;
+        }
+        if (this.carried + length > this.carry.length) {
+            byte[] grown = new byte[Math.max(this.carry.length * 2, this.carried + length)];
+            System.arraycopy(this.carry, 0, grown, 0, this.carried);
+            this.carry = grown;
+        }
+        System.arraycopy(bytes, from, this.carry, this.carried, length);
+        this.carried += length;
+    }
+
+
+    /**
+     * Hands one line to parseLine.
+     * @param bytes bytes holding the line
+     * @param from first position of the line
+     * @param to position of the line end
+     * @throws Exception when encountered with exceptional cases
+     */
+    private void line(final byte[] bytes, final int from, final int to)
+            throws Exception {
+        int end = to;
+        if (end > from && bytes[end - 1] == '\r') {
+            end--;
+        }
+        this.lineBytes = bytes;
+        this.position = from;
+        this.lineEnd = end;
+        parseLine();
+        this.numberOfLines++;
+    }
+
+
+    /**
+     * Parses the current line, read its values with the token functions.
+     * @throws Exception when encountered with exceptional cases
+     */
+    protected abstract void parseLine() throws Exception;
+
+
+    /**
+     * Returns whether a byte separates values.
+     * @param c byte of the line
+     * @return true for a space, tab or carriage return
+     */
+    private static boolean isBlank(final int c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+
+    /**
+     * Skips blanks and returns whether the current line has another value.
+     * @return true if a value follows
+     */
+    protected final boolean hasToken() {
+        while (this.position < this.lineEnd && isBlank(this.lineBytes[this.position])) {
+            this.position++;
+        }
+        return this.position < this.lineEnd;
+    }
+
+
+    /**
+     * First character of the current line after leading blanks.
+     * Does not consume it.
+     * @return the character, -1 for a blank line
+     */
+    protected final int peek() {
+        if (!hasToken()) {
+            return -1;
+        }
+        return this.lineBytes[this.position];
+    }
+
+
+    /**
+     * Parses the next value of the line as an int.
+     * @return the value
+     */
+    protected final int nextInt() {
+        if (!hasToken()) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        byte[] bytes = this.lineBytes;
+        int pos = this.position;
+        int end = this.lineEnd;
+        boolean negative = false;
+        if (bytes[pos] == '-') {
+            negative = true;
+            pos++;
+        }
+        int begin = pos;
+        long value = 0;
+        while (pos < end) {
+            int c = bytes[pos];
+            if (isBlank(c)) {
+                break;
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException(WRONG_NUMBER);
+            }
+            value = value * 10 + (c - '0');
+            if (value > MAX_MAGNITUDE) {
+                throw new NumberFormatException(WRONG_NUMBER);
+            }
+            pos++;
+        }
+        this.position = pos;
+        long v = negative ? -value : value;
+        if (pos == begin || v > Integer.MAX_VALUE) {
+            throw new NumberFormatException(WRONG_NUMBER);
+        }
+        return (int) v;
+    }
+
+
+    /**
+     * Parses the next value of the line as a real number.
+     * Accepts an optional sign, digits with an optional decimal point and
+     * an optional exponent such as 1.5e-3. The first 18 significant
+     * digits are kept, which is far more than a rounded cost needs.
+     * @return the value
+     */
+    protected final double nextDouble() {
+        if (!hasToken()) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        boolean negative = false;
+        int c = this.lineBytes[this.position];
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            this.position++;
+        }
+        long mantissa = 0;
+        int significant = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean point = false;
+        while (this.position < this.lineEnd) {
+            c = this.lineBytes[this.position];
+            if (isBlank(c) || c == 'e' || c == 'E') {
+                break;
+            }
+            if (c == '.' && !point) {
+                point = true;
+            } else if (c >= '0' && c <= '9') {
+                if (significant < MAX_REAL_DIGITS) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (mantissa != 0) {
+                        significant++;
+                    }
+                    if (point) {
+                        exponent--;
+                    }
+                } else if (!point) {
+                    exponent++;
+                }
+                digits++;
+            } else {
+                throw new NumberFormatException(WRONG_NUMBER);
+            }
+            this.position++;
+        }
+        if (digits == 0) {
+            throw new NumberFormatException(WRONG_NUMBER);
+        }
+        if (this.position < this.lineEnd && !isBlank(this.lineBytes[this.position])) {
+            this.position++;
+            exponent += nextExponent();
+        }
+        double value = mantissa;
+        if (mantissa != 0 && exponent < 0) {
+            value = mantissa / Math.pow(10, -exponent);
+        } else if (mantissa != 0 && exponent > 0) {
+            value = mantissa * Math.pow(10, exponent);
+        }
+        return negative ? -value : value;
+    }
+
+
+    /**
+     * Parses the exponent of a real number after the e.
+     * @return the exponent, limited to MAX_EXPONENT in magnitude
+     */
+    private int nextExponent() {
+        boolean negative = false;
+        if (this.position < this.lineEnd
+                && (this.lineBytes[this.position] == '-' || this.lineBytes[this.position] == '+')) {
+            negative = this.lineBytes[this.position] == '-';
+            this.position++;
+        }
+        int value = 0;
+        int digits = 0;
+        while (this.position < this.lineEnd && !isBlank(this.lineBytes[this.position])) {
+            int c = this.lineBytes[this.position];
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException(WRONG_NUMBER);
+            }
+            value = Math.min(MAX_EXPONENT, value * 10 + (c - '0'));
+            digits++;
+            this.position++;
+        }
+        if (digits == 0) {
+            throw new NumberFormatException(WRONG_NUMBER);
+        }
+        return negative ? -value : value;
+    }
+
+
+    /**
+     * Skips the next value of the line.
+     * @return length of the skipped value
+     */
+    protected final int skipToken() {
+        if (!hasToken()) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        int begin = this.position;
+        while (this.position < this.lineEnd && !isBlank(this.lineBytes[this.position])) {
+            this.position++;
+        }
+        return this.position - begin;
+    }
+
+
+    /**
+     * Returns the next value of the line as a String.
+     * Only used for the few keyword values of the formats.
+     * @return the value
+     */
+    protected final String nextToken() {
+        if (!hasToken()) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        int begin = this.position;
+        return new String(this.lineBytes, begin, skipToken());
+    }
+
+
+    /**
+     * Adds the line number to a parse error.
+     * @param ex error raised while parsing a line
+     * @param line zero based line number in the file
+     * @return error of the same kind naming the line
+     */
+    public static IllegalArgumentException atLine(
+            final IllegalArgumentException ex, final long line) {
+        String message = ex.getMessage() + AT_LINE + (line + 1);
+        if (ex instanceof NumberFormatException) {
+            return new NumberFormatException(message);
+        }
+        return new IllegalArgumentException(message);
+    }
+}
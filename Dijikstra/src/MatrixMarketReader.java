@@ -0,0 +1,162 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.io.InputStream;
+import java.util.InputMismatchException;
+
+/**
+ * Reads sparse matrices in the Matrix Market coordinate format as graphs.
+ * The banner "%%MatrixMarket matrix coordinate field symmetry" is
+ * followed by % comment lines, the size line "rows cols entries" and
+ * one line "i j [value]" per entry with 1 based ids. The matrix must be
+ * square. A symmetric matrix gives an undirected graph with one edge
+ * per stored entry, a general matrix a directed graph with an arc from
+ * i to j. Diagonal entries are not edges and are skipped, the number of
+ * edges of the graph counts only the entries added. Integer values are
+ * the costs and pattern matrices cost 1. Real values are parsed from the
+ * bytes and rounded to the nearest integer, positive values below 0.5
+ * become 1 so that every stored entry stays an edge. Costs and values
+ * must be positive and below Integer.MAX_VALUE.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class MatrixMarketReader extends GraphImporter {
+
+    /**
+     * STATIC String for the banner of the format.
+     */
+    private static final String BANNER = "%%MatrixMarket";
+    /**
+     * STATIC ints for the value field of the entries.
+     */
+    private static final int FIELD_INTEGER = 0;
+    private static final int FIELD_REAL = 1;
+    private static final int FIELD_PATTERN = 2;
+
+    /**
+     * Constructor used to initialize the reader.
+     * @param in input stream of the .mtx file
+     */
+    public MatrixMarketReader(final InputStream in) {
+        super(in);
+        this.field = -1;
+        this.symmetric = false;
+        this.sizeRead = false;
+        this.entries = 0;
+        this.announced = 0;
+    }
+
+
+    /**
+     * Value field of the entries, -1 before the banner.
+     */
+    private int field;
+    /**
+     * Whether only one triangle of a symmetric matrix is stored.
+     */
+    private boolean symmetric;
+    /**
+     * Whether the size line has been read.
+     */
+    private boolean sizeRead;
+    /**
+     * Number of entry lines read, diagonal entries included.
+     */
+    private long entries;
+    /**
+     * Number of entries announced by the size line.
+     */
+    private int announced;
+
+
+    /**
+     * Parses one line of the file.
+     * @throws Exception when encountered with exceptional cases
+     */
+    @Override
+    protected final void parseLine() throws Exception {
+        if (this.field == -1) {
+            readBanner();
+            return;
+        }
+        int first = peek();
+        if (first == -1 || first == '%') {
+            return;
+        }
+        if (!this.sizeRead) {
+            int rows = nextInt();
+            int cols = nextInt();
+            int count = nextInt();
+            if (rows != cols) {
+                throw new IllegalArgumentException(WRONG_ARGUMENTS);
+            }
+            startGraph(rows, count, !this.symmetric);
+            this.announced = count;
+            this.sizeRead = true;
+        } else {
+            int i = nextInt() - 1;
+            int j = nextInt() - 1;
+            int cost = 1;
+            if (this.field == FIELD_INTEGER) {
+                cost = nextInt();
+            } else if (this.field == FIELD_REAL) {
+                double value = nextDouble();
+                if (!(value > 0 && value < Integer.MAX_VALUE)) {
+                    throw new IllegalArgumentException(WRONG_FILE_INPUTS);
+                }
+                cost = (int) Math.max(1, Math.round(value));
+            }
+            if (i != j) {
+                addEdge(i, j, cost);
+            } else if (i < 0 || i >= getNumberOfNodes()) {
+                throw new IllegalArgumentException(WRONG_FILE_INPUTS);
+            }
+            this.entries++;
+        }
+        if (hasToken()) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+    }
+
+
+    /**
+     * Parses the banner line that starts the file.
+     */
+    private void readBanner() {
+        if (!BANNER.equals(nextToken()) || !"matrix".equalsIgnoreCase(nextToken())
+                || !"coordinate".equalsIgnoreCase(nextToken())) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        String type = nextToken();
+        if ("integer".equalsIgnoreCase(type)) {
+            this.field = FIELD_INTEGER;
+        } else if ("real".equalsIgnoreCase(type)) {
+            this.field = FIELD_REAL;
+        } else if ("pattern".equalsIgnoreCase(type)) {
+            this.field = FIELD_PATTERN;
+        } else {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        String symmetry = nextToken();
+        if ("symmetric".equalsIgnoreCase(symmetry)) {
+            this.symmetric = true;
+        } else if (!"general".equalsIgnoreCase(symmetry)) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+    }
+
+
+    /**
+     * Checks the number of entries against the size line.
+     * @throws Exception when encountered with exceptional cases
+     */
+    @Override
+    protected final void finish() throws Exception {
+        if (!this.sizeRead || this.entries != this.announced) {
+            throw new InputMismatchException("Insufficient Edges in input");
+        }
+    }
+}
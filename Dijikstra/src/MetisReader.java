@@ -0,0 +1,115 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.io.InputStream;
+import java.util.InputMismatchException;
+
+/**
+ * Reads undirected graphs in the METIS graph format.
+ * The header line is "n m [fmt [ncon]]", then line i lists the
+ * neighbors of vertex i with 1 based ids. The fmt digits select vertex
+ * sizes, vertex weights (ncon of them) and edge weights, in that order
+ * from the left. Vertex sizes and weights are skipped, edges without
+ * weights cost 1. Every edge is listed at both end points and is kept
+ * once. Lines starting with % are comments.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class MetisReader extends GraphImporter {
+
+    /**
+     * Constructor used to initialize the reader.
+     * @param in input stream of the METIS file
+     */
+    public MetisReader(final InputStream in) {
+        super(in);
+        this.vertex = -1;
+        this.skippedValues = 0;
+        this.edgeWeights = false;
+    }
+
+
+    /**
+     * Vertex of the current line, -1 before the header.
+     */
+    private int vertex;
+    /**
+     * Number of vertex sizes and weights in front of the neighbors.
+     */
+    private int skippedValues;
+    /**
+     * Whether every neighbor is followed by the edge weight.
+     */
+    private boolean edgeWeights;
+
+
+    /**
+     * Parses one line of the file.
+     * @throws Exception when encountered with exceptional cases
+     */
+    @Override
+    protected final void parseLine() throws Exception {
+        if (peek() == '%') {
+            return;
+        }
+        if (this.vertex == -1) {
+            if (peek() == -1) {
+                return;
+            }
+            int n = nextInt();
+            int m = nextInt();
+            if (hasToken()) {
+                String fmt = nextToken();
+                if (fmt.length() > 3 || !fmt.matches("[01]+")) {
+                    throw new IllegalArgumentException(WRONG_ARGUMENTS);
+                }
+                int flags = Integer.parseInt(fmt, 2);
+                int ncon = hasToken() ? nextInt() : 1;
+                if (ncon <= 0) {
+                    throw new IllegalArgumentException(WRONG_ARGUMENTS);
+                }
+                this.edgeWeights = (flags & 1) != 0;
+                this.skippedValues = ((flags & 2) != 0 ? ncon : 0) + ((flags & 4) != 0 ? 1 : 0);
+            }
+            startGraph(n, m, false);
+            this.vertex = 0;
+        } else if (this.vertex < getNumberOfNodes()) {
+            for (int i = 0; i < this.skippedValues; i++) {
+                nextInt();
+            }
+            while (hasToken()) {
+                int neighbor = nextInt() - 1;
+                int cost = this.edgeWeights ? nextInt() : 1;
+                if (neighbor > this.vertex) {
+                    addEdge(this.vertex, neighbor, cost);
+                } else if (neighbor < 0 || neighbor == this.vertex) {
+                    throw new IllegalArgumentException(WRONG_FILE_INPUTS);
+                }
+            }
+            this.vertex++;
+        } else if (peek() != -1) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        if (hasToken()) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+    }
+
+
+    /**
+     * Checks the number of vertex lines and edges against the header.
+     * @throws Exception when encountered with exceptional cases
+     */
+    @Override
+    protected final void finish() throws Exception {
+        if (this.vertex < getNumberOfNodes()) {
+            throw new InputMismatchException("Insufficient vertices in input");
+        }
+        if (getEdgeCount() != getNumberOfEdges()) {
+            throw new InputMismatchException("Insufficient Edges in input");
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.NoSuchElementException;
+
+/**
+ * Class to represent a shortest path as a view of a ShortestPathTree.
+ * The path is walked from the target back to the source through the
+ * predecessors, one vertex per call of nextVertex(), so no list of
+ * vertices or edges is built. Call reset() to walk it again.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class Path {
+
+    /**
+     * Interface for the callers that visit the edges of a path.
+     */
+    public interface EdgeVisitor {
+
+        /**
+         * Called for every edge of the path, from the target backwards.
+         * @param from vertex nearer to the source
+         * @param to vertex nearer to the target
+         * @param cost cost of the edge
+         */
+        void visitEdge(int from, int to, int cost);
+    }
+
+
+    /**
+     * Constructor used to create the view of a path.
+     * @param t shortest path tree holding the path
+     * @param v end vertex of the path
+     */
+    public Path(final ShortestPathTree t, final int v) {
+        this.tree = t;
+        this.target = v;
+        reset();
+    }
+
+
+    /**
+     * Shortest path tree holding the path.
+     */
+    private final ShortestPathTree tree;
+    /**
+     * End vertex of the path.
+     */
+    private final int target;
+    /**
+     * Vertex returned by the next call of nextVertex, -1 at the end.
+     */
+    private int cursor;
+
+
+    /**
+     * getter for the end vertex of the path.
+     * @return target vertex
+     */
+    public final int getTarget() {
+        return this.target;
+    }
+
+
+    /**
+     * getter for the start vertex of the path.
+     * For the tree of a multi source run this is the nearest source
+     * of the target, found by walking the predecessors.
+     * @return start vertex, -1 when the path is empty
+     */
+    public final int getSource() {
+        if (!exists()) {
+            return ShortestPathTree.NO_PREDECESSOR;
+        }
+        int v = this.target;
+        while (this.tree.getPredecessor(v) != ShortestPathTree.NO_PREDECESSOR) {
+            v = this.tree.getPredecessor(v);
+        }
+        return v;
+    }
+
+
+    /**
+     * getter for the cost of the path.
+     * @return cost of the path, DijikstraEngine.INFINITY when there is
+     * no path
+     */
+    public final int getCost() {
+        return this.tree.getDistance(this.target);
+    }
+
+
+    /**
+     * Returns whether the target is reachable from the source.
+     * @return true if the path exists
+     */
+    public final boolean exists() {
+        return this.tree.isReachable(this.target);
+    }
+
+
+    /**
+     * Number of edges of the path, found by walking the predecessors.
+     * @return number of edges, 0 when the path is empty
+     */
+    public final int getNumberOfEdges() {
+        if (!exists()) {
+            return 0;
+        }
+        int edges = 0;
+        for (int v = this.tree.getPredecessor(this.target); v != ShortestPathTree.NO_PREDECESSOR;
+                v = this.tree.getPredecessor(v)) {
+            edges++;
+        }
+        return edges;
+    }
+
+
+    /**
+     * Moves the walk back to the target.
+     */
+    public final void reset() {
+        this.cursor = exists() ? this.target : ShortestPathTree.NO_PREDECESSOR;
+    }
+
+
+    /**
+     * Returns whether the walk has more vertices.
+     * @return true until the source has been returned
+     */
+    public final boolean hasNext() {
+        return this.cursor != ShortestPathTree.NO_PREDECESSOR;
+    }
+
+
+    /**
+     * Returns the next vertex of the walk from the target to the source.
+     * @return vertex number
+     */
+    public final int nextVertex() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Path has no more vertices");
+        }
+        int v = this.cursor;
+        this.cursor = this.tree.getPredecessor(v);
+        return v;
+    }
+
+
+    /**
+     * Visits every edge of the path from the target to the source.
+     * The edge costs come from the difference of the path costs.
+     * @param visitor receiver of the edges
+     */
+    public final void forEachEdge(final EdgeVisitor visitor) {
+        if (!exists()) {
+            return;
+        }
+        int v = this.target;
+        int u = this.tree.getPredecessor(v);
+        while (u != ShortestPathTree.NO_PREDECESSOR) {
+            visitor.visitEdge(u, v, this.tree.getDistance(v) - this.tree.getDistance(u));
+            v = u;
+            u = this.tree.getPredecessor(v);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Priority queue implementations that can drive the DijikstraEngine.
+ * Each type is selected on the command line by its name.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public enum QueueType {
+
+    /**
+     * Array backed fibonacci heap.
+     */
+    FIBONACCI("fibonacci") {
+        @Override
+        public DecreaseKeyQueue create(final int n) {
+            return new IntFibonacciHeap(n);
+        }
+    },
+    /**
+     * Node based fibonacci heap.
+     */
+    FIBONACCI_NODE("fibnode") {
+        @Override
+        public DecreaseKeyQueue create(final int n) {
+            return new FibonacciHeapQueue(n);
+        }
+    },
+    /**
+     * Indexed binary heap.
+     */
+    BINARY("binary") {
+        @Override
+        public DecreaseKeyQueue create(final int n) {
+            return new DaryHeap(n, 2);
+        }
+    },
+    /**
+     * Indexed 4-ary heap.
+     */
+    DARY("dary") {
+        @Override
+        public DecreaseKeyQueue create(final int n) {
+            return new DaryHeap(n, DARY_ARITY);
+        }
+    },
+    /**
+     * Pairing heap.
+     */
+    PAIRING("pairing") {
+        @Override
+        public DecreaseKeyQueue create(final int n) {
+            return new PairingHeap(n);
+        }
+    },
+    /**
+     * Binary heap with lazy deletion instead of decreaseKey.
+     */
+    LAZY("lazy") {
+        @Override
+        public DecreaseKeyQueue create(final int n) {
+            return new LazyBinaryHeap(n);
+        }
+    },
+    /**
+     * Radix heap for monotone non negative keys.
+     */
+    RADIX("radix") {
+        @Override
+        public DecreaseKeyQueue create(final int n) {
+            return new RadixHeap(n);
+        }
+    };
+
+    /**
+     * STATIC int for the number of children in the d-ary heap.
+     */
+    private static final int DARY_ARITY = 4;
+
+    /**
+     * Name used on the command line.
+     */
+    private final String queueName;
+
+    /**
+     * Constructor for the queue types.
+     * @param name name used on the command line
+     */
+    QueueType(final String name) {
+        this.queueName = name;
+    }
+
+    /**
+     * getter for the command line name.
+     * @return the queue name
+     */
+    public final String getQueueName() {
+        return this.queueName;
+    }
+
+    /**
+     * Creates an empty queue for the vertex numbers 0 to n - 1.
+     * @param n number of vertices
+     * @return the new queue
+     */
+    public abstract DecreaseKeyQueue create(int n);
+
+    /**
+     * Looks up a queue type by its command line name.
+     * @param name the queue name
+     * @return the queue type
+     */
+    public static QueueType fromName(final String name) {
+        for (QueueType type : values()) {
+            if (type.queueName.equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown queue type : " + name);
+    }
+}
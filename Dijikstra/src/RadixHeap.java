@@ -0,0 +1,240 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Class to represent a radix heap over the vertex numbers 0 to n - 1.
+ * Dijikstra never removes a key smaller than the last removed one, so a
+ * vertex with key k is kept in the bucket given by the highest bit in
+ * which k differs from the last removed key. Bucket 0 holds the keys
+ * equal to it. When bucket 0 runs empty the first non empty bucket is
+ * redistributed around its minimum, every vertex moves to a lower bucket
+ * each time, which gives O(log C) amortized operations.
+ * The buckets are doubly linked lists kept in int arrays.
+ * Keys must be non negative and monotone.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class RadixHeap implements DecreaseKeyQueue {
+
+    /**
+     * STATIC int marking a missing link.
+     */
+    private static final int NIL = -1;
+    /**
+     * STATIC int for the number of buckets, one per bit of a
+     * non negative int and one for the last removed key.
+     */
+    private static final int NUMBER_OF_BUCKETS = Integer.SIZE;
+
+    /**
+     * Constructor to initialize a new radix heap.
+     * @param n number of vertices that can be stored in the heap
+     */
+    public RadixHeap(final int n) {
+        this.bucketHead = new int[NUMBER_OF_BUCKETS];
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            this.bucketHead[i] = NIL;
+        }
+        this.next = new int[n];
+        this.prev = new int[n];
+        this.bucket = new int[n];
+        this.keyValue = new int[n];
+        this.inHeap = new boolean[n];
+        this.lastKey = 0;
+        this.numberOfNodes = 0;
+    }
+
+
+    /**
+     * First vertex of every bucket.
+     */
+    private final int[] bucketHead;
+    /**
+     * Next vertex in the same bucket.
+     */
+    private final int[] next;
+    /**
+     * Previous vertex in the same bucket.
+     */
+    private final int[] prev;
+    /**
+     * Bucket of every vertex.
+     */
+    private final int[] bucket;
+    /**
+     * Key value of every vertex.
+     */
+    private final int[] keyValue;
+    /**
+     * Whether the vertex is currently in the heap.
+     */
+    private final boolean[] inHeap;
+    /**
+     * Last removed key, the buckets are relative to it.
+     */
+    private int lastKey;
+    /**
+     * number of nodes currently in the heap.
+     */
+    private int numberOfNodes;
+
+
+    /**
+     * getter for number of nodes.
+     * @return numberOfNodes in the heap
+     */
+    public final int getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+
+    /**
+     * Insert a vertex in the heap.
+     * @param v vertex number
+     * @param keyVal key value of the vertex, not below the last removed key
+     */
+    @Override
+    public final void insert(final int v, final int keyVal) {
+        inHeap[v] = true;
+        ++numberOfNodes;
+        keyValue[v] = keyVal;
+        link(v, bucketOf(keyVal));
+    }
+
+
+    /**
+     * Removes the vertex with the minimum key from the heap.
+     * @return the minimum vertex
+     * @throws Exception when the heap is empty
+     */
+    @Override
+    public final int removeMin() throws Exception {
+        if (numberOfNodes == 0) {
+            throw new Exception("Cannot remove minimum from empty heap");
+        }
+        if (bucketHead[0] == NIL) {
+            int i = 1;
+            while (bucketHead[i] == NIL) {
+                i++;
+            }
+            int minKey = Integer.MAX_VALUE;
+            for (int v = bucketHead[i]; v != NIL; v = next[v]) {
+                if (keyValue[v] < minKey) {
+                    minKey = keyValue[v];
+                }
+            }
+            lastKey = minKey;
+            int v = bucketHead[i];
+            bucketHead[i] = NIL;
+            while (v != NIL) {
+                int following = next[v];
+                link(v, bucketOf(keyValue[v]));
+                v = following;
+            }
+        }
+        int minNode = bucketHead[0];
+        unlink(minNode);
+        inHeap[minNode] = false;
+        --numberOfNodes;
+        return minNode;
+    }
+
+
+    /**
+     * Decreases the key of a vertex in the heap.
+     * @param v vertex number
+     * @param keyVal new key value, not below the last removed key
+     */
+    @Override
+    public final void decreaseKey(final int v, final int keyVal) {
+        keyValue[v] = keyVal;
+        int b = bucketOf(keyVal);
+        if (b != bucket[v]) {
+            unlink(v);
+            link(v, b);
+        }
+    }
+
+
+    /**
+     * Returns whether the vertex is currently in the heap.
+     * @param v vertex number
+     * @return true if the vertex is in the heap
+     */
+    @Override
+    public final boolean contains(final int v) {
+        return inHeap[v];
+    }
+
+
+    /**
+     * Returns true if the heap is empty.
+     * @return true if heap is empty
+     */
+    @Override
+    public final boolean isHeapEmpty() {
+        return numberOfNodes == 0;
+    }
+
+
+    /**
+     * Removes all vertices from the heap so it can be reused.
+     */
+    @Override
+    public final void clear() {
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            for (int v = bucketHead[i]; v != NIL; v = next[v]) {
+                inHeap[v] = false;
+            }
+            bucketHead[i] = NIL;
+        }
+        lastKey = 0;
+        numberOfNodes = 0;
+    }
+
+
+    /**
+     * Bucket of a key relative to the last removed key.
+     * @param keyVal key value
+     * @return index of the highest differing bit + 1, 0 if equal
+     */
+    private int bucketOf(final int keyVal) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(keyVal ^ lastKey);
+    }
+
+
+    /**
+     * Puts a vertex at the front of a bucket.
+     * @param v vertex number
+     * @param b bucket index
+     */
+    private void link(final int v, final int b) {
+        int head = bucketHead[b];
+        bucket[v] = b;
+        prev[v] = NIL;
+        next[v] = head;
+        if (head != NIL) {
+            prev[head] = v;
+        }
+        bucketHead[b] = v;
+    }
+
+
+    /**
+     * Removes a vertex from its bucket.
+     * @param v vertex number
+     */
+    private void unlink(final int v) {
+        if (prev[v] != NIL) {
+            next[prev[v]] = next[v];
+        } else {
+            bucketHead[bucket[v]] = next[v];
+        }
+        if (next[v] != NIL) {
+            prev[next[v]] = prev[v];
+        }
+    }
+}
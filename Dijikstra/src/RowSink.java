@@ -0,0 +1,27 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Interface for the receivers of the rows of a many source run.
+ * A row holds the path costs from one source to all vertices. The row
+ * array belongs to the worker that computed it and is overwritten by
+ * its next run, a sink that keeps rows has to copy them. Rows of
+ * different sources arrive from several worker threads at once, so
+ * implementations have to be thread safe.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public interface RowSink {
+
+    /**
+     * Receives the path costs of one source.
+     * @param source source node of the row
+     * @param distances path costs from the source to every vertex,
+     * DijikstraEngine.INFINITY for unreachable vertices
+     * @throws Exception when encountered with exceptional cases
+     */
+    void acceptRow(int source, int[] distances) throws Exception;
+}
@@ -0,0 +1,114 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Class to represent the shortest path tree of one source.
+ * The tree is two int arrays, the cost of every vertex and its
+ * predecessor on the shortest path, so one tree takes 8 bytes per
+ * vertex and can be kept for every cached source. Paths are walked
+ * from the predecessors on demand and never stored as lists.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class ShortestPathTree {
+
+    /**
+     * Predecessor of the source and of vertices that are not reached.
+     */
+    public static final int NO_PREDECESSOR = -1;
+
+
+    /**
+     * Constructor used to wrap the result arrays of a run.
+     * The arrays are taken over without copying.
+     * @param s source node of the tree
+     * @param costs cost of path from source to all nodes
+     * @param pred predecessor of every node on its shortest path
+     */
+    public ShortestPathTree(final int s, final int[] costs, final int[] pred) {
+        this.source = s;
+        this.pathCosts = costs;
+        this.predecessor = pred;
+    }
+
+
+    /**
+     * Source node.
+     */
+    private final int source;
+    /**
+     * Cost of path from source to all nodes.
+     */
+    private final int[] pathCosts;
+    /**
+     * Predecessor of every node on its shortest path.
+     */
+    private final int[] predecessor;
+
+
+    /**
+     * getter for the source node.
+     * @return source node of the tree, -1 for the tree of a multi
+     * source run
+     */
+    public final int getSource() {
+        return this.source;
+    }
+
+
+    /**
+     * getter for number of vertices.
+     * @return number of vertices
+     */
+    public final int getNumberOfVertices() {
+        return this.pathCosts.length;
+    }
+
+
+    /**
+     * getter for the path cost of a vertex.
+     * @param v vertex number
+     * @return cost of path from source, DijikstraEngine.INFINITY when
+     * v is not reachable
+     */
+    public final int getDistance(final int v) {
+        return this.pathCosts[v];
+    }
+
+
+    /**
+     * getter for the predecessor of a vertex.
+     * @param v vertex number
+     * @return previous vertex on the shortest path to v, NO_PREDECESSOR
+     * for the sources and for vertices that are not reachable
+     */
+    public final int getPredecessor(final int v) {
+        if (v == this.source || this.pathCosts[v] == DijikstraEngine.INFINITY) {
+            return NO_PREDECESSOR;
+        }
+        return this.predecessor[v];
+    }
+
+
+    /**
+     * Returns whether a vertex is reachable from the source.
+     * @param v vertex number
+     * @return true if a path from the source to v exists
+     */
+    public final boolean isReachable(final int v) {
+        return this.pathCosts[v] != DijikstraEngine.INFINITY;
+    }
+
+
+    /**
+     * Returns a view of the shortest path from the source to a vertex.
+     * @param target end vertex of the path
+     * @return path view, empty when the target is not reachable
+     */
+    public final Path pathTo(final int target) {
+        return new Path(this, target);
+    }
+}
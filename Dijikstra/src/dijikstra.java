@@ -3,10 +3,10 @@
  * @version 1.0
  */
 
+import java.io.FileDescriptor;
 import java.io.FileInputStream;
-import java.io.InputStreamReader;
-import java.io.BufferedReader;
-import java.util.InputMismatchException;
+import java.io.FileOutputStream;
+import java.util.Arrays;
 /**
  * Main class to run the project execution.
  * @author Sakthivel Manikam Arunachalam
@@ -19,8 +19,10 @@ public final class dijikstra {
      */
     private static final String WRONG_NUMBER_ARGUMENTS = "Wrong number of arguments in input";
     private static final String WRONG_ARGUMENTS = "Wrong arguments in input";
-    private static final String WRONG_FILE_INPUTS = "Wrong edge inputs in file";
     private static final String UNCONNECTED_GRAPH = "Inputs cannot generate connected graph";
+    private static final String NO_GRAPH = "Input file holds no graph";
+    private static final String DIRECTED_GRAPH = "Mode needs an undirected graph";
+    private static final String COST_OVERFLOW = "Path costs may exceed the int range, use the -e scheme";
 
     /**
      * Private constructor to prevent Utility class instantiation.
@@ -33,10 +35,22 @@ public final class dijikstra {
      * Graph Object.
      */
     private static TestableGraph myGraph;
+    /**
+     * CSR snapshot of the graph shared by the scheme runs.
+     */
+    private static ICsrGraph myCsrGraph;
+    /**
+     * Format of the input file chosen with -i, null to detect it.
+     */
+    private static GraphFormat inputFormat;
+    /**
+     * Path of the raw distance dump chosen with -o, null for none.
+     */
+    private static String dumpPath;
     /**
      * Number of vertices of the graph.
      */
-    private static short numberOfNodes;
+    private static int numberOfNodes;
     /**
      * Number of edges of the graph.
      */
@@ -44,7 +58,7 @@ public final class dijikstra {
     /**
      * Source vertex of the graph.
      */
-    private static short sourceNode;
+    private static int sourceNode;
     /**
      * User input density of the graph.
      */
@@ -57,6 +71,10 @@ public final class dijikstra {
      * Number of nodes in the graph for analysis.
      */
     private static short[] randomizedNumberOfNodes = {1000, 3000, 5000};
+    /**
+     * Number of timed runs per graph in the analysis.
+     */
+    private static final int ANALYSIS_RUNS = 5;
 
 
     /**
@@ -71,27 +89,111 @@ public final class dijikstra {
      * Format 2 :
      *  java dijikstra -s file-path ||
      * Format 3 :
-     *  java dijikstra -f file-path
+     *  java dijikstra -f file-path ||
+     * Format 4 :
+     *  java dijikstra -d file-path ||
+     * Format 5 :
+     *  java dijikstra -a file-path ||
+     *  picks the scheme from the density and edge costs of the graph ||
+     * Format 6 :
+     *  java dijikstra -q queue file-path ||
+     *  queue - fibonacci, fibnode, binary, dary, pairing, lazy or radix ||
+     * Format 7 :
+     *  java dijikstra -l file-path ||
+     *  fibonacci scheme with lazy vertex insertion ||
+     * Format 8 :
+     *  java dijikstra -b ||
+     *  times the fibonacci and radix heaps on the analysis grid ||
+     * Format 9 :
+     *  java dijikstra -p t file-path ||
+     *  t - target vertex number, shortest path cost from the source
+     *  to t with the bidirectional search ||
+     * Format 10 :
+     *  java dijikstra -t file-path ||
+     *  parallel delta stepping scheme on all processors ||
+     * Format 11 :
+     *  java dijikstra -c file-path binary-file-path ||
+     *  converts the input file to the memory mapped binary format,
+     *  every file-path above also accepts a binary file ||
+     * Format 12 :
+     *  java dijikstra -i format ... ||
+     *  format - dimacs, metis or mtx, reads the file of any format
+     *  above in a public graph format, source vertex is vertex 0.
+     *  Without -i the format is picked from the extension
+     *  .gr, .graph, .metis or .mtx ||
+     * Format 13 :
+     *  java dijikstra -o dump-path ... ||
+     *  also stores the distances of the file schemes above as raw
+     *  little endian ints in dump-path, -i and -o can be combined ||
+     * Format 14 :
+     *  java dijikstra -e file-path ||
+     *  scheme with long path costs for graphs whose paths may cost
+     *  more than the int range, the other file schemes refuse them,
+     *  -o stores the distances as little endian longs
      */
     public static void main(final String[] args) {
         try {
-            int argsLength = args.length;
-            if (argsLength < 2 || argsLength > 4) {
+            String[] params = args;
+            while (params.length > 2 && ("-i".equals(params[0].toLowerCase())
+                    || "-o".equals(params[0].toLowerCase()))) {
+                if ("-i".equals(params[0].toLowerCase())) {
+                    inputFormat = GraphFormat.fromName(params[1]);
+                } else {
+                    dumpPath = params[1];
+                }
+                params = Arrays.copyOfRange(params, 2, params.length);
+            }
+            int argsLength = params.length;
+            if (argsLength < 1 || argsLength > 4) {
                 throw new IllegalArgumentException(WRONG_NUMBER_ARGUMENTS);
-            } else if (argsLength == 2 && "-s".equals(args[0].toLowerCase())) {
+            } else if (argsLength == 1 && "-b".equals(params[0].toLowerCase())) {
 
-                FileInputStream file = new FileInputStream(args[1]);
-                simpleSchemeFileInput(file);
-            } else if (argsLength == 2 && "-f".equals(args[0].toLowerCase())) {
+                randomizedAnalysis();
+            } else if (argsLength == 2 && "-s".equals(params[0].toLowerCase())) {
 
-                FileInputStream file = new FileInputStream(args[1]);
-                fibonacciSchemeFileInput(file);
-            } else if (argsLength == 4 && "-r".equals(args[0].toLowerCase())) {
+                simpleSchemeFileInput(readIntGraphFile(params[1]));
+            } else if (argsLength == 2 && "-f".equals(params[0].toLowerCase())) {
 
-                numberOfNodes = (short) Integer.parseInt(args[1]);
-                graphDensity = Double.parseDouble(args[2]);
-                sourceNode = (short) Integer.parseInt(args[3]);
-                if (numberOfNodes <= 0) {
+                fibonacciSchemeFileInput(readIntGraphFile(params[1]));
+            } else if (argsLength == 2 && "-l".equals(params[0].toLowerCase())) {
+
+                lazyFibonacciSchemeFileInput(readIntGraphFile(params[1]));
+            } else if (argsLength == 2 && "-d".equals(params[0].toLowerCase())) {
+
+                dialSchemeFileInput(readIntGraphFile(params[1]));
+            } else if (argsLength == 2 && "-a".equals(params[0].toLowerCase())) {
+
+                autoSchemeFileInput(readIntGraphFile(params[1]));
+            } else if (argsLength == 2 && "-e".equals(params[0].toLowerCase())) {
+
+                longSchemeFileInput(readGraphFile(params[1]));
+            } else if (argsLength == 2 && "-t".equals(params[0].toLowerCase())) {
+
+                deltaSteppingSchemeFileInput(readIntGraphFile(params[1]));
+            } else if (argsLength == 3 && "-q".equals(params[0].toLowerCase())) {
+
+                QueueType type = QueueType.fromName(params[1]);
+                queueSchemeFileInput(type, readIntGraphFile(params[2]));
+            } else if (argsLength == 3 && "-p".equals(params[0].toLowerCase())) {
+
+                int target = Integer.parseInt(params[1]);
+                ICsrGraph graph = readIntGraphFile(params[2]);
+                if (target < 0 || target >= numberOfNodes) {
+                    throw new IllegalArgumentException(WRONG_ARGUMENTS);
+                }
+                if (graph.isDirected()) {
+                    throw new Exception(DIRECTED_GRAPH);
+                }
+                pointToPointFileInput(target, graph);
+            } else if (argsLength == 3 && "-c".equals(params[0].toLowerCase())) {
+
+                convertFileInput(readGraphFile(params[1]), params[2]);
+            } else if (argsLength == 4 && "-r".equals(params[0].toLowerCase())) {
+
+                numberOfNodes = Integer.parseInt(params[1]);
+                graphDensity = Double.parseDouble(params[2]);
+                sourceNode = Integer.parseInt(params[3]);
+                if (numberOfNodes <= 0 || numberOfNodes > Short.MAX_VALUE) {
                     throw new IllegalArgumentException(WRONG_ARGUMENTS);
                 }
                 if (graphDensity <= 0 || graphDensity > 100) {
@@ -113,171 +215,314 @@ public final class dijikstra {
 
     /**
      * Function that runs the simple scheme dijikstra algorithm from user input.
-     * @param file file input stream of the data input file
+     * @param graph graph read from the data input file
      * @throws Exception when encountered with exceptional cases
      */
-    private static void simpleSchemeFileInput(final FileInputStream file)
+    private static void simpleSchemeFileInput(final ICsrGraph graph)
             throws Exception {
-        BufferedReader reader = new BufferedReader(new InputStreamReader(file));
-        String readLine = null;
-        int edgesAdded = 0;
-        for (int i = 0; (readLine = reader.readLine()) != null; i++) {
-            if (i == 0) {
-                 String[] params = readLine.split(" ");
-                 if (params.length != 1) {
-                     throw new IllegalArgumentException(WRONG_ARGUMENTS);
-                 } else {
-                     sourceNode = (short) Integer.parseInt(params[0]);
-                 }
-            } else if (i == 1) {
-                String[] params = readLine.split(" ");
-                 if (params.length != 2) {
-                     throw new IllegalArgumentException(WRONG_ARGUMENTS);
-                 } else {
-                     numberOfNodes = (short) Integer.parseInt(params[0]);
-                     if (numberOfNodes <= 0) {
-                         throw new IllegalArgumentException(WRONG_ARGUMENTS);
-                     }
-                     if (sourceNode < 0 || sourceNode >= numberOfNodes) {
-                        throw new IllegalArgumentException(WRONG_ARGUMENTS);
-                     }
-                     numberOfEdges = Integer.parseInt(params[1]);
-                     if (numberOfEdges < (numberOfNodes - 1)) {
-                         throw new Exception("Insufficient number of edges to form connected graph");
-                     }
-                     myGraph = new TestableGraph(numberOfNodes);
-                 }
-            } else {
-                String[] params = readLine.split(" ");
-                 if (params.length != 3) {
-                     throw new IllegalArgumentException(WRONG_ARGUMENTS);
-                 } else {
-                     short v1 = (short) Integer.parseInt(params[0]);
-                     short v2 = (short) Integer.parseInt(params[1]);
-                     if (v1 == v2) {
-                         throw new IllegalArgumentException(WRONG_FILE_INPUTS);
-                     }
-                     if (v1 < 0 || v1 >= numberOfNodes) {
-                         throw new IllegalArgumentException(WRONG_FILE_INPUTS);
-                     }
-                     if (v2 < 0 || v2 >= numberOfNodes) {
-                         throw new IllegalArgumentException(WRONG_FILE_INPUTS);
-                     }
-                     short cost = (short) Integer.parseInt(params[2]);
-                     if (cost <= 0) {
-                         throw new IllegalArgumentException(WRONG_FILE_INPUTS);
-                     }
-                     myGraph.addEdge(v1, v2, cost);
-                     edgesAdded++;
-                 }
-            }
-        }
-        if (edgesAdded != numberOfEdges) {
-            throw new InputMismatchException("Insufficient Edges in input");
+        long start = 0;
+        long stop = 0;
+        DijikstraAlgorithm algo = new DijikstraAlgorithm(graph, sourceNode);
+        start = System.currentTimeMillis();
+        algo.runSimpleAlgorithm();
+        stop = System.currentTimeMillis();
+        int[] distanceCosts = algo.getDistances();
+        printDistances("Shortest paths from simple scheme", distanceCosts);
+        System.out.println("Simple scheme Time       :" + (stop - start));
+    }
+
+
+    /**
+     * Function that runs the dijikstra algorithm in fibonacci scheme.
+     * @param graph graph read from the data input file
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void fibonacciSchemeFileInput(final ICsrGraph graph)
+            throws Exception {
+        long startF = 0;
+        long stopF = 0;
+        DijikstraFibAlgorithm algo = new DijikstraFibAlgorithm(graph, sourceNode);
+        startF = System.currentTimeMillis();
+        algo.runFibonacciAlgorithm();
+        stopF = System.currentTimeMillis();
+        int[] distanceFibCosts = algo.getDistances();
+        printDistances("Shortest paths from Fibonacci scheme", distanceFibCosts);
+        System.out.println("Fibonacci Scheme Time     :" + (stopF - startF));
+    }
+
+
+    /**
+     * Function that runs the fibonacci scheme with lazy vertex insertion.
+     * @param graph graph read from the data input file
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void lazyFibonacciSchemeFileInput(final ICsrGraph graph)
+            throws Exception {
+        long startF = 0;
+        long stopF = 0;
+        DijikstraFibAlgorithm algo = new DijikstraFibAlgorithm(graph, sourceNode);
+        algo.setLazyInsertion(true);
+        startF = System.currentTimeMillis();
+        algo.runFibonacciAlgorithm();
+        stopF = System.currentTimeMillis();
+        int[] distanceFibCosts = algo.getDistances();
+        printDistances("Shortest paths from lazy Fibonacci scheme", distanceFibCosts);
+        System.out.println("Lazy Fibonacci Scheme Time :" + (stopF - startF));
+    }
+
+
+    /**
+     * Function that runs the parallel delta stepping scheme.
+     * @param graph graph read from the data input file
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void deltaSteppingSchemeFileInput(final ICsrGraph graph)
+            throws Exception {
+        long startT = 0;
+        long stopT = 0;
+        DeltaSteppingEngine engine = new DeltaSteppingEngine(graph);
+        startT = System.currentTimeMillis();
+        engine.run(sourceNode);
+        stopT = System.currentTimeMillis();
+        engine.shutdown();
+        int[] distanceCosts = engine.getDistances();
+        printDistances("Shortest paths from delta stepping scheme, delta " + engine.getDelta(), distanceCosts);
+        System.out.println("Delta Stepping Time      :" + (stopT - startT));
+    }
+
+
+    /**
+     * Function that runs the dijikstra algorithm in bucket scheme.
+     * Edge costs above DialQueue.MAX_COST run on the fibonacci heap,
+     * the output names the queue that actually ran.
+     * @param graph graph read from the data input file
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void dialSchemeFileInput(final ICsrGraph graph)
+            throws Exception {
+        long startD = 0;
+        long stopD = 0;
+        DijikstraDialAlgorithm algo = new DijikstraDialAlgorithm(graph, sourceNode);
+        startD = System.currentTimeMillis();
+        algo.runDialAlgorithm();
+        stopD = System.currentTimeMillis();
+        int[] distanceDialCosts = algo.getDistances();
+        if (algo.isBucketQueue()) {
+            printDistances("Shortest paths from bucket scheme", distanceDialCosts);
+            System.out.println("Bucket scheme Time       :" + (stopD - startD));
+        } else {
+            printDistances("Shortest paths from Fibonacci scheme, edge costs above "
+                    + DialQueue.MAX_COST + " for buckets", distanceDialCosts);
+            System.out.println("Fibonacci Scheme Time     :" + (stopD - startD));
         }
-        double density = (double) numberOfEdges / (double) (numberOfNodes * (numberOfNodes - 1) / 2.0);
-        if (!myGraph.depthFirstSearch(sourceNode, density)) {
-            throw new Exception(UNCONNECTED_GRAPH);
+    }
+
+
+    /**
+     * Function that picks the scheme for the input graph and runs it.
+     * The simple scheme is used for graphs of 75% density and more,
+     * the bucket scheme when the edge costs are small,
+     * otherwise the fibonacci scheme.
+     * @param graph graph read from the data input file
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void autoSchemeFileInput(final ICsrGraph graph)
+            throws Exception {
+        if (DijikstraAlgorithm.isPreferred(graph)) {
+            simpleSchemeFileInput(graph);
+        } else if (DijikstraDialAlgorithm.isPreferred(graph.getMaxEdgeCost())) {
+            dialSchemeFileInput(graph);
         } else {
-            long start = 0;
-            long stop = 0;
-            DijikstraAlgorithm algo = new DijikstraAlgorithm(myGraph, (short) sourceNode);
-            start = System.currentTimeMillis();
-            algo.runSimpleAlgorithm();
-            stop = System.currentTimeMillis();
-            Integer[] distanceCosts = algo.getPathCosts();
-            System.out.println("Shortest paths from simple scheme");
-            for (int i = 0; i < distanceCosts.length; i++) {
-                System.out.println(distanceCosts[i]);
-//                System.out.println(distanceCosts[i] + " //" + " cost from node " + sourceNode + " to " + i);
-            }
-            System.out.println("Simple scheme Time       :" + (stop - start));
+            queueSchemeFileInput(QueueType.FIBONACCI, graph);
         }
     }
 
 
     /**
-     * Function that runs the dijikstra algorithm in fibonacci scheme.
-     * @param file file input stream of the data input file
+     * Function that runs the dijikstra algorithm with the chosen queue.
+     * @param type type of priority queue to use
+     * @param graph graph read from the data input file
      * @throws Exception when encountered with exceptional cases
      */
-    private static void fibonacciSchemeFileInput(final FileInputStream file)
+    private static void queueSchemeFileInput(final QueueType type,
+            final ICsrGraph graph) throws Exception {
+        long startQ = 0;
+        long stopQ = 0;
+        DijikstraEngine engine = new DijikstraEngine(graph, type);
+        startQ = System.currentTimeMillis();
+        engine.run(sourceNode);
+        stopQ = System.currentTimeMillis();
+        int[] distanceCosts = engine.getDistances();
+        printDistances("Shortest paths from " + type.getQueueName() + " queue", distanceCosts);
+        System.out.println("Queue scheme Time        :" + (stopQ - startQ));
+    }
+
+
+    /**
+     * Function that runs the dijikstra algorithm with long path costs.
+     * @param graph graph read from the data input file
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void longSchemeFileInput(final ICsrGraph graph)
             throws Exception {
-        BufferedReader reader = new BufferedReader(new InputStreamReader(file));
-        String readLine = null;
-        int edgesAdded = 0;
-        for (int i = 0; (readLine = reader.readLine()) != null; i++) {
-            if (i == 0) {
-                 String[] params = readLine.split(" ");
-                 if (params.length != 1) {
-                     throw new IllegalArgumentException(WRONG_ARGUMENTS);
-                 } else {
-                     sourceNode = (short) Integer.parseInt(params[0]);
-                 }
-            } else if (i == 1) {
-                String[] params = readLine.split(" ");
-                 if (params.length != 2) {
-                     throw new IllegalArgumentException(WRONG_ARGUMENTS);
-                 } else {
-                     numberOfNodes = (short) Integer.parseInt(params[0]);
-                     if (numberOfNodes <= 0) {
-                         throw new IllegalArgumentException(WRONG_ARGUMENTS);
-                     }
-                     if (sourceNode < 0 || sourceNode >= numberOfNodes) {
-                        throw new IllegalArgumentException(WRONG_ARGUMENTS);
-                     }
-                     numberOfEdges = Integer.parseInt(params[1]);
-                     if (numberOfEdges < (numberOfNodes - 1)) {
-                         throw new Exception("Insufficient number of edges to form connected graph");
-                     }
-                     myGraph = new TestableGraph(numberOfNodes);
-                 }
-            } else {
-                String[] params = readLine.split(" ");
-                 if (params.length != 3) {
-                     throw new IllegalArgumentException(WRONG_ARGUMENTS);
-                 } else {
-                     short v1 = (short) Integer.parseInt(params[0]);
-                     short v2 = (short) Integer.parseInt(params[1]);
-                     if (v1 == v2) {
-                         throw new IllegalArgumentException(WRONG_FILE_INPUTS);
-                     }
-                     if (v1 < 0 || v1 >= numberOfNodes) {
-                         throw new IllegalArgumentException(WRONG_FILE_INPUTS);
-                     }
-                     if (v2 < 0 || v2 >= numberOfNodes) {
-                         throw new IllegalArgumentException(WRONG_FILE_INPUTS);
-                     }
-                     short cost = (short) Integer.parseInt(params[2]);
-                     if (cost <= 0) {
-                         throw new IllegalArgumentException(WRONG_FILE_INPUTS);
-                     }
-                     myGraph.addEdge(v1, v2, cost);
-                     edgesAdded++;
-                 }
-            }
+        long startE = 0;
+        long stopE = 0;
+        DijikstraLongAlgorithm algo = new DijikstraLongAlgorithm(graph, sourceNode);
+        startE = System.currentTimeMillis();
+        algo.runLongAlgorithm();
+        stopE = System.currentTimeMillis();
+        long[] distanceLongCosts = algo.getLongDistances();
+        System.out.flush();
+        DistanceWriter writer = new DistanceWriter(new FileOutputStream(FileDescriptor.out).getChannel());
+        writer.writeLine("Shortest paths from long cost scheme");
+        writer.writeDistances(distanceLongCosts);
+        writer.flush();
+        if (dumpPath != null) {
+            DistanceWriter.dump(distanceLongCosts, dumpPath);
         }
-        if (edgesAdded != numberOfEdges) {
-            throw new InputMismatchException("Insufficient Edges in input");
+        System.out.println("Long cost scheme Time    :" + (stopE - startE));
+    }
+
+
+    /**
+     * Function that runs the bidirectional point to point query.
+     * @param target target vertex of the query
+     * @param graph graph read from the data input file
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void pointToPointFileInput(final int target,
+            final ICsrGraph graph) throws Exception {
+        long startP = 0;
+        long stopP = 0;
+        BidirectionalDijikstra search = new BidirectionalDijikstra(graph);
+        startP = System.currentTimeMillis();
+        int cost = search.query(sourceNode, target);
+        stopP = System.currentTimeMillis();
+        System.out.println("Shortest path from " + sourceNode + " to " + target);
+        System.out.println(cost);
+        System.out.println("Settled vertices         :" + search.getSettledCount());
+        System.out.println("Point to point Time      :" + (stopP - startP));
+    }
+
+
+    /**
+     * Prints the distances of a file scheme run.
+     * The text is formatted into one buffer and written to the standard
+     * output channel, with -o the distances are also dumped as raw ints.
+     * @param title line printed before the distances
+     * @param distances distance of every vertex
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void printDistances(final String title,
+            final int[] distances) throws Exception {
+        System.out.flush();
+        DistanceWriter writer = new DistanceWriter(new FileOutputStream(FileDescriptor.out).getChannel());
+        writer.writeLine(title);
+        writer.writeDistances(distances);
+        writer.flush();
+        if (dumpPath != null) {
+            DistanceWriter.dump(distances, dumpPath);
         }
-        double density = (double) numberOfEdges / (double) (numberOfNodes * (numberOfNodes - 1) / 2.0);
-        if (!myGraph.depthFirstSearch(sourceNode, density)) {
-            throw new Exception(UNCONNECTED_GRAPH);
+    }
+
+
+    /**
+     * Reads the input file of a scheme with int path costs.
+     * A path has at most n - 1 edges, when that many edges of the largest
+     * cost can reach INFINITY a distance could saturate and be reported
+     * as unreachable, so such graphs are refused instead.
+     * @param path path of the data input file
+     * @return the graph read from the file
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static ICsrGraph readIntGraphFile(final String path)
+            throws Exception {
+        ICsrGraph graph = readGraphFile(path);
+        if ((long) graph.getMaxEdgeCost() * (numberOfNodes - 1) >= DijikstraEngine.INFINITY) {
+            throw new Exception(COST_OVERFLOW);
+        }
+        return graph;
+    }
+
+
+    /**
+     * Reads and validates the input file shared by the file schemes.
+     * A binary graph file is recognized by its magic number and mapped
+     * instead of parsed, the public graph formats by the -i flag or
+     * the file extension. Also checks that the graph is connected from
+     * the source vertex.
+     * @param path path of the data input file
+     * @return the graph read from the file
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static ICsrGraph readGraphFile(final String path)
+            throws Exception {
+        ICsrGraph graph;
+        GraphFormat format = inputFormat;
+        if (format == null) {
+            format = GraphFormat.fromPath(path);
+        }
+        if (inputFormat == null && BinaryGraphFile.isBinaryGraphFile(path)) {
+            MappedCsrGraph mapped = BinaryGraphFile.open(path);
+            sourceNode = mapped.getSourceNode();
+            numberOfNodes = mapped.getNumberOfVertices();
+            if (mapped.isDirected()) {
+                numberOfEdges = mapped.getNumberOfHalfEdges();
+            } else {
+                numberOfEdges = mapped.getNumberOfHalfEdges() / 2;
+            }
+            graph = mapped;
+        } else if (format != null) {
+            FileInputStream file = new FileInputStream(path);
+            try {
+                GraphImporter importer = format.create(file);
+                importer.read();
+                if (importer.getGraph() == null) {
+                    throw new Exception(NO_GRAPH);
+                }
+                sourceNode = 0;
+                numberOfNodes = importer.getNumberOfNodes();
+                numberOfEdges = importer.getNumberOfEdges();
+                graph = importer.getGraph();
+            } finally {
+                file.close();
+            }
         } else {
-            long startF = 0;
-            long stopF = 0;
-            DijikstraFibAlgorithm algo = new DijikstraFibAlgorithm(myGraph, (short) sourceNode);
-            startF = System.currentTimeMillis();
-            algo.runFibonacciAlgorithm();
-            stopF = System.currentTimeMillis();
-            Integer[] distanceFibCosts = algo.getPathCostsFib();
-            System.out.println("Shortest paths from Fibonacci scheme");
-            for (int i = 0; i < distanceFibCosts.length; i++) {
-                System.out.println(distanceFibCosts[i]);
-//                System.out.println(distanceFibCosts[i] + " //" + " cost from node " + sourceNode + " to " + i);
+            FileInputStream file = new FileInputStream(path);
+            try {
+                GraphFileReader reader = new GraphFileReader(file);
+                reader.read(Runtime.getRuntime().availableProcessors());
+                sourceNode = reader.getSourceNode();
+                numberOfNodes = reader.getNumberOfNodes();
+                numberOfEdges = reader.getNumberOfEdges();
+                graph = reader.getGraph();
+                System.out.println("Input Read Time          :" + reader.getReadTime()
+                        + " (" + reader.getLinesPerSecond() + " lines/sec)");
+            } finally {
+                file.close();
             }
-            System.out.println("Fibonacci Scheme Time     :" + (stopF - startF));
         }
+        if (!graph.isConnected(sourceNode)) {
+            throw new Exception(UNCONNECTED_GRAPH);
+        }
+        return graph;
+    }
+
+
+    /**
+     * Function that writes the graph as a binary graph file.
+     * @param graph graph read from the data input file
+     * @param path path of the binary file to create
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void convertFileInput(final ICsrGraph graph,
+            final String path) throws Exception {
+        long start = System.currentTimeMillis();
+        BinaryGraphFile.write(graph, sourceNode, path);
+        long stop = System.currentTimeMillis();
+        System.out.println("Binary graph file written : " + path);
+        System.out.println("Vertices " + numberOfNodes + " Edges " + numberOfEdges);
+        System.out.println("Conversion Time          :" + (stop - start));
     }
 
 
@@ -293,12 +538,14 @@ public final class dijikstra {
         long start1 = 0;
         long stop1 = 0;
         start1 = System.currentTimeMillis();
-        myGraph = new TestableGraph(numberOfNodes, graphDensity, sourceNode);
+        myGraph = new TestableGraph((short) numberOfNodes, graphDensity, (short) sourceNode);
         stop1 = System.currentTimeMillis();
         System.out.println("Graph Generation Time   : " + (stop1 - start1));
         //myGraph.printGraph();
+        myCsrGraph = new CsrGraph(myGraph);
         randomizedSimpleSchemeRun(sourceNode);
         randomizedFibonacciSchemeRun(sourceNode);
+        randomizedDialSchemeRun(sourceNode);
     }
 
 
@@ -313,11 +560,11 @@ public final class dijikstra {
 
         long start = 0;
         long stop = 0;
-        DijikstraAlgorithm algo = new DijikstraAlgorithm(myGraph, (short) source);
+        DijikstraAlgorithm algo = new DijikstraAlgorithm(myCsrGraph, source);
         start = System.currentTimeMillis();
         algo.runSimpleAlgorithm();
         stop = System.currentTimeMillis();
-        Integer[] distanceCosts = algo.getPathCosts();
+        int[] distanceCosts = algo.getDistances();
 //        for (int i = 0; i < distanceCosts.length; i++) {
 //            System.out.println("Shortest paths from simple scheme");
 //            System.out.println("Node--" + i + "--Cost--" + distanceCosts[i]);
@@ -337,11 +584,11 @@ public final class dijikstra {
 
         long startF = 0;
         long stopF = 0;
-        DijikstraFibAlgorithm algo = new DijikstraFibAlgorithm(myGraph, (short) source);
+        DijikstraFibAlgorithm algo = new DijikstraFibAlgorithm(myCsrGraph, source);
         startF = System.currentTimeMillis();
         algo.runFibonacciAlgorithm();
         stopF = System.currentTimeMillis();
-        Integer[] distanceFibCosts = algo.getPathCostsFib();
+        int[] distanceFibCosts = algo.getDistances();
 //        for (int i = 0; i < distanceFibCosts.length; i++) {
 //            System.out.println("Shortest paths from Fibonacci scheme");
 //            System.out.println("Node--" + i + "--Cost--" + distanceFibCosts[i]);
@@ -350,22 +597,66 @@ public final class dijikstra {
     }
 
 
+    /**
+     * Runs the dijikstra algorithm from the given source vertex and the
+     * generated graph using the bucket scheme.
+     * Also calculates the time taken to run the algorithm
+     * @param source the source vertex to find shortest paths
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void randomizedDialSchemeRun(final int source) throws Exception {
+
+        long startD = 0;
+        long stopD = 0;
+        DijikstraDialAlgorithm algo = new DijikstraDialAlgorithm(myCsrGraph, source);
+        startD = System.currentTimeMillis();
+        algo.runDialAlgorithm();
+        stopD = System.currentTimeMillis();
+        if (algo.isBucketQueue()) {
+            System.out.println("Bucket Scheme Time      : " + (stopD - startD));
+        } else {
+            System.out.println("Fibonacci Scheme Time   : " + (stopD - startD));
+        }
+    }
+
+
     /**
      * This function is used only internally to generate a larege number of
-     * sample runs in simple and fibonacci scheme for data analysis.
+     * sample runs for data analysis.
      * This function is not intended to be used when running normal inputs
-     * Run Analysis set.
+     * Run Analysis set. For every size and density of the analysis grid a
+     * random graph is generated and the fibonacci scheme is timed with the
+     * fibonacci heap and with the radix heap, averaged over several runs.
      * @throws Exception when exception occurs
      */
     private static void randomizedAnalysis() throws Exception {
-        //Set of inputs
-//        for (int i = 0; i < density.length; i++) {
-//            for (int j = 0; j < numberOfNodes.length; j++) {
-//                if (!((density[i] == 0.1) && (numberOfNodes[j] == 1000))) {
-//                    randomizedSimpleSchemeRun(i, j);
-//                }
-//            }
-//        }
-//        randomizedRun(0, 3);
+        QueueType[] queues = {QueueType.FIBONACCI, QueueType.RADIX};
+        System.out.println("Vertices  Density  fibonacci(ms)  radix(ms)");
+        for (int j = 0; j < randomizedNumberOfNodes.length; j++) {
+            for (int i = 0; i < randomizedDensities.length; i++) {
+                double minEdges = randomizedDensities[i] * (randomizedNumberOfNodes[j]
+                        * (randomizedNumberOfNodes[j] - 1.0) / 2.0) / 100.0;
+                if (Math.ceil(minEdges) < randomizedNumberOfNodes[j] - 1) {
+                    continue;
+                }
+                myGraph = new TestableGraph(randomizedNumberOfNodes[j], randomizedDensities[i], (short) 0);
+                myCsrGraph = new CsrGraph(myGraph);
+                myGraph = null;
+                StringBuilder str = new StringBuilder();
+                str.append(randomizedNumberOfNodes[j]).append("    ");
+                str.append(randomizedDensities[i]).append("    ");
+                for (int q = 0; q < queues.length; q++) {
+                    DijikstraFibAlgorithm algo = new DijikstraFibAlgorithm(myCsrGraph, 0, queues[q]);
+                    algo.runFibonacciAlgorithm();
+                    long start = System.nanoTime();
+                    for (int r = 0; r < ANALYSIS_RUNS; r++) {
+                        algo.runFibonacciAlgorithm();
+                    }
+                    long stop = System.nanoTime();
+                    str.append(String.format("%.2f", (stop - start) / 1e6 / ANALYSIS_RUNS)).append("    ");
+                }
+                System.out.println(str);
+            }
+        }
     }
-}
\ No newline at end of file
+}
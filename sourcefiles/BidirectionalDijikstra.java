@@ -0,0 +1,242 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Class to answer point to point shortest path queries.
+ * A forward search from the source and a backward search from the
+ * target run with one queue each and take turns settling a vertex.
+ * The best meeting cost found over the edges between the two searches
+ * is final once the keys last settled on both sides add up to it, so
+ * a query usually settles two small balls instead of the whole graph.
+ * The graph must be undirected, the backward search walks the same CSR
+ * adjacency as the forward search, directed graphs are rejected.
+ * The distance arrays are allocated once and only the vertices touched
+ * by a query are reset before the next one.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class BidirectionalDijikstra {
+
+    /**
+     * Static String for Algorithm exception.
+     */
+    private static final String ALGO_EXCEPTION = "Bidirectional dijikstra algorithm exception";
+    private static final String DIRECTED_GRAPH = "Bidirectional search needs an undirected graph";
+
+
+    /**
+     * Constructor used to answer queries with fibonacci heaps.
+     * @param g undirected graph snapshot on which queries are run
+     */
+    public BidirectionalDijikstra(ICsrGraph g) {
+        this(g, QueueType.FIBONACCI);
+    }
+
+
+    /**
+     * Constructor used to answer queries with the given queue type.
+     * @param g undirected graph snapshot on which queries are run
+     * @param type type of priority queue used by both searches
+     */
+    public BidirectionalDijikstra(ICsrGraph g, QueueType type) {
+        if (g.isDirected()) {
+            throw new IllegalArgumentException(DIRECTED_GRAPH);
+        }
+        int n = g.getNumberOfVertices();
+        this.myGraph = g;
+        this.forwardQueue = type.create(n);
+        this.backwardQueue = type.create(n);
+        this.forwardCosts = new int[n];
+        this.backwardCosts = new int[n];
+        for (int i = 0; i < n; i++) {
+            this.forwardCosts[i] = DijikstraEngine.INFINITY;
+            this.backwardCosts[i] = DijikstraEngine.INFINITY;
+        }
+        this.forwardTouched = new int[n];
+        this.backwardTouched = new int[n];
+        this.forwardTouchedCount = 0;
+        this.backwardTouchedCount = 0;
+        this.settledCount = 0;
+    }
+
+
+    /**
+     * Graph Object.
+     */
+    private ICsrGraph myGraph;
+    /**
+     * Queue of the forward search.
+     */
+    private DecreaseKeyQueue forwardQueue;
+    /**
+     * Queue of the backward search.
+     */
+    private DecreaseKeyQueue backwardQueue;
+    /**
+     * Cost of path from the source, INFINITY when not reached.
+     */
+    private int[] forwardCosts;
+    /**
+     * Cost of path to the target, INFINITY when not reached.
+     */
+    private int[] backwardCosts;
+    /**
+     * Vertices reached by the forward search of the last query.
+     */
+    private int[] forwardTouched;
+    /**
+     * Vertices reached by the backward search of the last query.
+     */
+    private int[] backwardTouched;
+    /**
+     * Number of vertices in forwardTouched.
+     */
+    private int forwardTouchedCount;
+    /**
+     * Number of vertices in backwardTouched.
+     */
+    private int backwardTouchedCount;
+    /**
+     * Number of vertices settled by both searches of the last query.
+     */
+    private int settledCount;
+    /**
+     * Best meeting cost seen by the last call of settle.
+     */
+    private long meetingCost;
+
+
+    /**
+     * getter for the number of vertices settled by the last query.
+     * @return vertices settled by the forward and backward search
+     */
+    public final int getSettledCount() {
+        return this.settledCount;
+    }
+
+
+    /**
+     * getter for the graph.
+     * @return the graph snapshot
+     */
+    public final ICsrGraph getGraph() {
+        return this.myGraph;
+    }
+
+
+    /**
+     * Computes the cost of the shortest path between two vertices.
+     * @param source start vertex of the path
+     * @param target end vertex of the path
+     * @return cost of the shortest path, DijikstraEngine.INFINITY when
+     * the target is not reachable
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final int query(final int source, final int target) throws Exception {
+        reset();
+        if (source == target) {
+            return 0;
+        }
+        this.forwardCosts[source] = 0;
+        this.forwardTouched[this.forwardTouchedCount++] = source;
+        this.forwardQueue.insert(source, 0);
+        this.backwardCosts[target] = 0;
+        this.backwardTouched[this.backwardTouchedCount++] = target;
+        this.backwardQueue.insert(target, 0);
+
+        long best = DijikstraEngine.INFINITY;
+        long forwardKey = 0;
+        long backwardKey = 0;
+        boolean forwardTurn = true;
+        while (!this.forwardQueue.isHeapEmpty() && !this.backwardQueue.isHeapEmpty()) {
+            if (forwardKey + backwardKey >= best) {
+                break;
+            }
+            if (forwardTurn) {
+                forwardKey = settle(this.forwardQueue, this.forwardCosts,
+                        this.backwardCosts, true);
+                best = Math.min(best, this.meetingCost);
+            } else {
+                backwardKey = settle(this.backwardQueue, this.backwardCosts,
+                        this.forwardCosts, false);
+                best = Math.min(best, this.meetingCost);
+            }
+            forwardTurn = !forwardTurn;
+        }
+        return (int) best;
+    }
+
+
+    /**
+     * Settles the minimum vertex of one search and relaxes its edges.
+     * Every edge leading to a vertex reached by the other search is a
+     * candidate meeting point, the cheapest one is left in meetingCost.
+     * @param q queue of the search
+     * @param costs path costs of the search
+     * @param otherCosts path costs of the other search
+     * @param forward true for the forward search
+     * @return key of the settled vertex
+     * @throws Exception when encountered with exceptional cases
+     */
+    private long settle(final DecreaseKeyQueue q, final int[] costs,
+            final int[] otherCosts, final boolean forward) throws Exception {
+        ICsrGraph g = this.myGraph;
+        int u = q.removeMin();
+        if (u < 0) {
+            throw new Exception(ALGO_EXCEPTION);
+        }
+        this.settledCount++;
+        int base = costs[u];
+        long meet = DijikstraEngine.INFINITY;
+        if (otherCosts[u] != DijikstraEngine.INFINITY) {
+            meet = (long) base + otherCosts[u];
+        }
+        for (int e = g.edgeBegin(u); e < g.edgeEnd(u); e++) {
+            int v = g.edgeTarget(e);
+            int toReach = base + g.edgeCost(e);
+            if (toReach < 0) {
+                continue;
+            }
+            if (toReach < costs[v]) {
+                if (costs[v] == DijikstraEngine.INFINITY) {
+                    if (forward) {
+                        this.forwardTouched[this.forwardTouchedCount++] = v;
+                    } else {
+                        this.backwardTouched[this.backwardTouchedCount++] = v;
+                    }
+                    q.insert(v, toReach);
+                } else {
+                    q.decreaseKey(v, toReach);
+                }
+                costs[v] = toReach;
+            }
+            if (otherCosts[v] != DijikstraEngine.INFINITY
+                    && (long) toReach + otherCosts[v] < meet) {
+                meet = (long) toReach + otherCosts[v];
+            }
+        }
+        this.meetingCost = meet;
+        return base;
+    }
+
+
+    /**
+     * Resets the vertices touched by the last query.
+     */
+    private void reset() {
+        for (int i = 0; i < this.forwardTouchedCount; i++) {
+            this.forwardCosts[this.forwardTouched[i]] = DijikstraEngine.INFINITY;
+        }
+        for (int i = 0; i < this.backwardTouchedCount; i++) {
+            this.backwardCosts[this.backwardTouched[i]] = DijikstraEngine.INFINITY;
+        }
+        this.forwardTouchedCount = 0;
+        this.backwardTouchedCount = 0;
+        this.settledCount = 0;
+        this.forwardQueue.clear();
+        this.backwardQueue.clear();
+    }
+}
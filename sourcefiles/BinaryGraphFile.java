@@ -0,0 +1,330 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * Versioned binary graph file that is opened by memory mapping.
+ * All values are little endian ||
+ *  header (64 bytes) ||
+ *  offsets (n + 1 ints) ||
+ *  targets (m ints) ||
+ *  costs (m ints) ||
+ *  checksum (1 long) ||
+ * The header holds the magic number, the format version, the header size,
+ * a flags word, n the number of vertices, m the number of half edges,
+ * the largest edge cost and the source vertex, the rest is reserved.
+ * The flag FLAG_DIRECTED is set when every edge is an arc stored once at
+ * its first end point, otherwise m counts every edge twice.
+ * The checksum is the CRC32 of every byte before it.
+ * Opening a file maps the three arrays read only and hands them to a
+ * MappedCsrGraph, so nothing is parsed or copied and the checksum is only
+ * computed when verify is called.
+ * A mapped buffer is limited to 2 GB, so every array must stay below
+ * that size, about 536 million half edges.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public final class BinaryGraphFile {
+
+    /**
+     * STATIC int for the magic number, the bytes "DJKG" read little endian.
+     */
+    public static final int MAGIC = 0x474B4A44;
+    /**
+     * STATIC int for the version of the layout written by this class.
+     */
+    public static final int VERSION = 1;
+    /**
+     * STATIC int for the flag bit of a directed graph.
+     */
+    public static final int FLAG_DIRECTED = 1;
+    /**
+     * STATIC int for the size of the header in bytes.
+     */
+    private static final int HEADER_SIZE = 64;
+    /**
+     * STATIC int for the size of the checksum trailer in bytes.
+     */
+    private static final int CHECKSUM_SIZE = 8;
+    /**
+     * STATIC int for the size of the staging buffer used while writing.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * STATIC long for the largest number of ints one mapped buffer can hold.
+     */
+    private static final long MAX_SECTION_INTS = Integer.MAX_VALUE / 4;
+    /**
+     * Static strings for Exceptions.
+     */
+    private static final String WRONG_ARGUMENTS = "Wrong arguments in input";
+    private static final String NOT_BINARY_FILE = "Not a binary graph file";
+    private static final String CORRUPT_FILE = "Corrupt binary graph file";
+    private static final String UNSUPPORTED_VERSION = "Unsupported binary graph file version ";
+    private static final String SECTION_TOO_LARGE = "Graph too large for a mapped binary graph file";
+
+    /**
+     * Private constructor, the class only has static functions.
+     */
+    private BinaryGraphFile() {
+    }
+
+
+    /**
+     * Writes an adjacency list graph as a binary graph file.
+     * @param g graph to write
+     * @param source source vertex stored in the header
+     * @param path path of the file to create
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static void write(final Graph g, final int source,
+            final String path) throws Exception {
+        write(new CsrGraph(g), source, path);
+    }
+
+
+    /**
+     * Writes a CSR graph as a binary graph file.
+     * The arrays are streamed through one staging buffer and the checksum
+     * is computed on the way, so no copy of the graph is built.
+     * @param g graph to write
+     * @param source source vertex stored in the header
+     * @param path path of the file to create
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static void write(final ICsrGraph g, final int source,
+            final String path) throws Exception {
+        int n = g.getNumberOfVertices();
+        int m = g.getNumberOfHalfEdges();
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        if (n + 1L > MAX_SECTION_INTS || m > MAX_SECTION_INTS) {
+            throw new Exception(SECTION_TOO_LARGE);
+        }
+        FileOutputStream out = new FileOutputStream(path);
+        try {
+            FileChannel channel = out.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32 crc = new CRC32();
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(HEADER_SIZE);
+            buffer.putInt(g.isDirected() ? FLAG_DIRECTED : 0);
+            buffer.putInt(n);
+            buffer.putInt(m);
+            buffer.putInt(g.getMaxEdgeCost());
+            buffer.putInt(source);
+            while (buffer.position() < HEADER_SIZE) {
+                buffer.put((byte) 0);
+            }
+            for (int v = 0; v < n; v++) {
+                putInt(channel, buffer, crc, g.edgeBegin(v));
+            }
+            putInt(channel, buffer, crc, g.edgeEnd(n - 1));
+            for (int e = 0; e < m; e++) {
+                putInt(channel, buffer, crc, g.edgeTarget(e));
+            }
+            for (int e = 0; e < m; e++) {
+                putInt(channel, buffer, crc, g.edgeCost(e));
+            }
+            flush(channel, buffer, crc);
+            buffer.putLong(crc.getValue());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+
+    /**
+     * Adds an int to the staging buffer, flushing it first when full.
+     * @param channel channel of the file being written
+     * @param buffer staging buffer
+     * @param crc running checksum
+     * @param value value to add
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void putInt(final FileChannel channel,
+            final ByteBuffer buffer, final CRC32 crc, final int value)
+            throws Exception {
+        if (buffer.remaining() < 4) {
+            flush(channel, buffer, crc);
+        }
+        buffer.putInt(value);
+    }
+
+
+    /**
+     * Writes the staging buffer to the channel and adds it to the checksum.
+     * @param channel channel of the file being written
+     * @param buffer staging buffer
+     * @param crc running checksum
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static void flush(final FileChannel channel,
+            final ByteBuffer buffer, final CRC32 crc) throws Exception {
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+
+    /**
+     * Returns whether a file starts with the binary graph file magic number.
+     * @param path path of the file
+     * @return true if the file is a binary graph file
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static boolean isBinaryGraphFile(final String path)
+            throws Exception {
+        FileInputStream in = new FileInputStream(path);
+        try {
+            byte[] magic = new byte[4];
+            int read = 0;
+            while (read < magic.length) {
+                int r = in.read(magic, read, magic.length - read);
+                if (r < 0) {
+                    return false;
+                }
+                read += r;
+            }
+            return ByteBuffer.wrap(magic).order(ByteOrder.LITTLE_ENDIAN).getInt() == MAGIC;
+        } finally {
+            in.close();
+        }
+    }
+
+
+    /**
+     * Opens a binary graph file by mapping its arrays.
+     * The header and the section sizes are validated, the checksum is not.
+     * The mappings stay valid after the file is closed.
+     * @param path path of the file
+     * @return graph viewing the mapped arrays
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static MappedCsrGraph open(final String path) throws Exception {
+        RandomAccessFile file = new RandomAccessFile(path, "r");
+        try {
+            FileChannel channel = file.getChannel();
+            long size = channel.size();
+            if (size < HEADER_SIZE + CHECKSUM_SIZE) {
+                throw new Exception(NOT_BINARY_FILE);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC) {
+                throw new Exception(NOT_BINARY_FILE);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new Exception(UNSUPPORTED_VERSION + header.getInt(4));
+            }
+            int headerSize = header.getInt(8);
+            int flags = header.getInt(12);
+            int n = header.getInt(16);
+            int m = header.getInt(20);
+            int maxCost = header.getInt(24);
+            int source = header.getInt(28);
+            if (headerSize < HEADER_SIZE || n <= 0 || m < 0 || maxCost < 0
+                    || source < 0 || source >= n) {
+                throw new Exception(CORRUPT_FILE);
+            }
+            if (n + 1L > MAX_SECTION_INTS || m > MAX_SECTION_INTS) {
+                throw new Exception(SECTION_TOO_LARGE);
+            }
+            long offsetsPosition = headerSize;
+            long targetsPosition = offsetsPosition + 4L * (n + 1);
+            long costsPosition = targetsPosition + 4L * m;
+            if (costsPosition + 4L * m + CHECKSUM_SIZE != size) {
+                throw new Exception(CORRUPT_FILE);
+            }
+            IntBuffer offsets = map(channel, offsetsPosition, n + 1);
+            if (offsets.get(0) != 0 || offsets.get(n) != m) {
+                throw new Exception(CORRUPT_FILE);
+            }
+            IntBuffer targets = map(channel, targetsPosition, m);
+            IntBuffer costs = map(channel, costsPosition, m);
+            return new MappedCsrGraph(n, m, maxCost, source,
+                    (flags & FLAG_DIRECTED) != 0, offsets, targets, costs);
+        } finally {
+            file.close();
+        }
+    }
+
+
+    /**
+     * Maps one int array of the file read only.
+     * @param channel channel of the file
+     * @param position byte position of the array
+     * @param count number of ints in the array
+     * @return little endian int view of the mapped bytes
+     * @throws Exception when encountered with exceptional cases
+     */
+    private static IntBuffer map(final FileChannel channel,
+            final long position, final int count) throws Exception {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, 4L * count)
+                .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+
+    /**
+     * Recomputes the checksum of a binary graph file.
+     * This reads the whole file once and is kept out of open so that
+     * opening stays independent of the file size.
+     * @param path path of the file
+     * @return true if the stored checksum matches the contents
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static boolean verify(final String path) throws Exception {
+        RandomAccessFile file = new RandomAccessFile(path, "r");
+        try {
+            FileChannel channel = file.getChannel();
+            long size = channel.size();
+            if (size < HEADER_SIZE + CHECKSUM_SIZE) {
+                throw new Exception(NOT_BINARY_FILE);
+            }
+            long dataSize = size - CHECKSUM_SIZE;
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32 crc = new CRC32();
+            long position = 0;
+            while (position < dataSize) {
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE, dataSize - position));
+                int r = channel.read(buffer, position);
+                if (r < 0) {
+                    throw new Exception(CORRUPT_FILE);
+                }
+                crc.update(buffer.array(), 0, r);
+                position += r;
+            }
+            buffer.clear();
+            buffer.limit(CHECKSUM_SIZE);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, dataSize + buffer.position()) < 0) {
+                    throw new Exception(CORRUPT_FILE);
+                }
+            }
+            return buffer.getLong(0) == crc.getValue();
+        } finally {
+            file.close();
+        }
+    }
+}
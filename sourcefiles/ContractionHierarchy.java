@@ -0,0 +1,209 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/**
+ * Class to hold a contraction hierarchy index of a graph.
+ * Every vertex has a rank, its position in the contraction order, and
+ * a list of upward edges to the neighbors of higher rank it had when it
+ * was contracted, original edges and shortcuts alike. The upward edges
+ * are stored in CSR form. A shortest path in the graph always has an
+ * equally cheap path that goes up and then down in rank, so queries
+ * only search upward from both ends, see ChDijikstra.
+ * The index is built once per graph version with ContractionBuilder
+ * and can be saved and loaded.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class ContractionHierarchy implements Serializable {
+
+    /**
+     * Serial version of the index format.
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * Static String for a wrong stream content.
+     */
+    private static final String NOT_AN_INDEX = "Stream does not hold a contraction hierarchy";
+
+
+    /**
+     * Constructor used to wrap the arrays of a built hierarchy.
+     * The arrays are taken over without copying.
+     * @param n number of vertices
+     * @param order rank of every vertex
+     * @param off start position of the upward edges of every vertex
+     * @param tgt higher end point of every upward edge
+     * @param cst cost of every upward edge
+     * @param shortcuts number of shortcuts of the hierarchy
+     */
+    public ContractionHierarchy(final int n, final int[] order, final int[] off,
+            final int[] tgt, final int[] cst, final int shortcuts) {
+        this.numberOfVertices = n;
+        this.rank = order;
+        this.offsets = off;
+        this.targets = tgt;
+        this.costs = cst;
+        this.numberOfShortcuts = shortcuts;
+    }
+
+
+    /**
+     * Number of vertices of the graph.
+     */
+    private final int numberOfVertices;
+    /**
+     * Rank of every vertex.
+     */
+    private final int[] rank;
+    /**
+     * Start position of the upward edges of every vertex, size n + 1.
+     */
+    private final int[] offsets;
+    /**
+     * Higher end point of every upward edge.
+     */
+    private final int[] targets;
+    /**
+     * Cost of every upward edge.
+     */
+    private final int[] costs;
+    /**
+     * Number of shortcuts added by the contraction.
+     */
+    private final int numberOfShortcuts;
+
+
+    /**
+     * Builds the hierarchy of an adjacency list graph.
+     * @param g graph to index
+     * @return the contraction hierarchy
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static ContractionHierarchy build(final Graph g) throws Exception {
+        return build(new CsrGraph(g));
+    }
+
+
+    /**
+     * Builds the hierarchy of a CSR graph.
+     * @param g undirected graph snapshot to index
+     * @return the contraction hierarchy
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static ContractionHierarchy build(final ICsrGraph g) throws Exception {
+        return new ContractionBuilder(g).build();
+    }
+
+
+    /**
+     * getter for number of vertices.
+     * @return number of vertices
+     */
+    public final int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+
+    /**
+     * getter for number of upward edges.
+     * @return number of upward edges
+     */
+    public final int getNumberOfUpEdges() {
+        return this.targets.length;
+    }
+
+
+    /**
+     * getter for number of shortcuts.
+     * @return number of shortcuts added by the contraction
+     */
+    public final int getNumberOfShortcuts() {
+        return this.numberOfShortcuts;
+    }
+
+
+    /**
+     * getter for the rank of a vertex.
+     * @param v vertex number
+     * @return position of v in the contraction order
+     */
+    public final int getRank(final int v) {
+        return this.rank[v];
+    }
+
+
+    /**
+     * Position of the first upward edge of a vertex.
+     * @param v vertex number
+     * @return index of the first upward edge of v
+     */
+    public final int upBegin(final int v) {
+        return this.offsets[v];
+    }
+
+
+    /**
+     * Position after the last upward edge of a vertex.
+     * @param v vertex number
+     * @return index one past the last upward edge of v
+     */
+    public final int upEnd(final int v) {
+        return this.offsets[v + 1];
+    }
+
+
+    /**
+     * Higher end point of an upward edge.
+     * @param e upward edge index
+     * @return neighbor vertex number
+     */
+    public final int upTarget(final int e) {
+        return this.targets[e];
+    }
+
+
+    /**
+     * Cost of an upward edge.
+     * @param e upward edge index
+     * @return cost of the edge
+     */
+    public final int upCost(final int e) {
+        return this.costs[e];
+    }
+
+
+    /**
+     * Writes the hierarchy to a stream.
+     * @param out stream receiving the hierarchy
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void save(final OutputStream out) throws Exception {
+        ObjectOutputStream objects = new ObjectOutputStream(out);
+        objects.writeObject(this);
+        objects.flush();
+    }
+
+
+    /**
+     * Reads a hierarchy written by save.
+     * @param in stream holding the hierarchy
+     * @return the hierarchy
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static ContractionHierarchy load(final InputStream in) throws Exception {
+        Object index = new ObjectInputStream(in).readObject();
+        if (!(index instanceof ContractionHierarchy)) {
+            throw new Exception(NOT_AN_INDEX);
+        }
+        return (ContractionHierarchy) index;
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Class to represent an indexed d-ary min heap of vertices.
+ * The heap is an implicit tree in an int array, the position of every
+ * vertex is tracked so decreaseKey can sift it up in O(log_d n).
+ * With d = 2 this is the classic binary heap, a larger d makes the tree
+ * flatter which favours graphs with many decreaseKey operations.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class DaryHeap implements DecreaseKeyQueue {
+
+    /**
+     * STATIC int marking a vertex that is not in the heap.
+     */
+    private static final int NOT_IN_HEAP = -1;
+
+    /**
+     * Constructor to initialize a new heap.
+     * @param n number of vertices that can be stored in the heap
+     * @param d number of children of every node, at least 2
+     */
+    public DaryHeap(final int n, final int d) {
+        if (d < 2) {
+            throw new IllegalArgumentException("Arity of the heap must be at least 2");
+        }
+        this.arity = d;
+        this.heap = new int[n];
+        this.position = new int[n];
+        this.keyValue = new int[n];
+        for (int i = 0; i < n; i++) {
+            this.position[i] = NOT_IN_HEAP;
+        }
+        this.numberOfNodes = 0;
+    }
+
+
+    /**
+     * Number of children of every node.
+     */
+    private final int arity;
+    /**
+     * Vertices in heap order.
+     */
+    private final int[] heap;
+    /**
+     * Position of every vertex in the heap array.
+     */
+    private final int[] position;
+    /**
+     * Key value of every vertex.
+     */
+    private final int[] keyValue;
+    /**
+     * number of nodes currently in the heap.
+     */
+    private int numberOfNodes;
+
+
+    /**
+     * getter for number of nodes.
+     * @return numberOfNodes in the heap
+     */
+    public final int getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+
+    /**
+     * Insert a vertex in the heap.
+     * @param v vertex number
+     * @param keyVal key value of the vertex
+     */
+    @Override
+    public final void insert(final int v, final int keyVal) {
+        keyValue[v] = keyVal;
+        siftUp(v, numberOfNodes++);
+    }
+
+
+    /**
+     * Removes the vertex with the minimum key from the heap.
+     * @return the minimum vertex
+     * @throws Exception when the heap is empty
+     */
+    @Override
+    public final int removeMin() throws Exception {
+        if (numberOfNodes == 0) {
+            throw new Exception("Cannot remove minimum from empty heap");
+        }
+        int minNode = heap[0];
+        position[minNode] = NOT_IN_HEAP;
+        --numberOfNodes;
+        if (numberOfNodes > 0) {
+            siftDown(heap[numberOfNodes], 0);
+        }
+        return minNode;
+    }
+
+
+    /**
+     * Decreases the key of a vertex in the heap.
+     * @param v vertex number
+     * @param keyVal new key value
+     */
+    @Override
+    public final void decreaseKey(final int v, final int keyVal) {
+        keyValue[v] = keyVal;
+        siftUp(v, position[v]);
+    }
+
+
+    /**
+     * Returns whether the vertex is currently in the heap.
+     * @param v vertex number
+     * @return true if the vertex is in the heap
+     */
+    @Override
+    public final boolean contains(final int v) {
+        return position[v] != NOT_IN_HEAP;
+    }
+
+
+    /**
+     * Returns true if the heap is empty.
+     * @return true if heap is empty
+     */
+    @Override
+    public final boolean isHeapEmpty() {
+        return numberOfNodes == 0;
+    }
+
+
+    /**
+     * Removes all vertices from the heap so it can be reused.
+     */
+    @Override
+    public final void clear() {
+        for (int i = 0; i < numberOfNodes; i++) {
+            position[heap[i]] = NOT_IN_HEAP;
+        }
+        numberOfNodes = 0;
+    }
+
+
+    /**
+     * Moves a vertex up from the hole at pos until its parent is smaller.
+     * @param v vertex to place
+     * @param pos starting hole position
+     */
+    private void siftUp(final int v, final int pos) {
+        int key = keyValue[v];
+        int i = pos;
+        while (i > 0) {
+            int p = (i - 1) / arity;
+            int pv = heap[p];
+            if (keyValue[pv] <= key) {
+                break;
+            }
+            heap[i] = pv;
+            position[pv] = i;
+            i = p;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+
+
+    /**
+     * Moves a vertex down from the hole at pos until its children are larger.
+     * @param v vertex to place
+     * @param pos starting hole position
+     */
+    private void siftDown(final int v, final int pos) {
+        int key = keyValue[v];
+        int i = pos;
+        while (true) {
+            int first = i * arity + 1;
+            if (first >= numberOfNodes) {
+                break;
+            }
+            int last = Math.min(first + arity, numberOfNodes);
+            int best = first;
+            int bestKey = keyValue[heap[first]];
+            for (int c = first + 1; c < last; c++) {
+                int k = keyValue[heap[c]];
+                if (k < bestKey) {
+                    best = c;
+                    bestKey = k;
+                }
+            }
+            if (bestKey >= key) {
+                break;
+            }
+            heap[i] = heap[best];
+            position[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+}
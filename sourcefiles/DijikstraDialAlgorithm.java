@@ -0,0 +1,160 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Class to run the shortest path algorithm using Dial's bucket scheme.
+ * Edge costs are small positive integers, so a circular array of
+ * maxCost + 1 buckets replaces the heap and the next smallest vertex is
+ * found without key comparisons in O(E + n * C) worst case time.
+ * Graphs with edge costs above DialQueue.MAX_COST would need too many
+ * buckets and are run on the fibonacci heap instead.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class DijikstraDialAlgorithm {
+
+    /**
+     * STATIC int for the largest edge cost the scheme is preferred for.
+     * Beyond it the bucket array and the cursor scans outgrow a heap.
+     */
+    private static final int MAX_PREFERRED_COST = 1 << 16;
+
+
+    /**
+     * Constructor used to initialize the graph variables.
+     * The graph is frozen into a CsrGraph snapshot for the run.
+     * @param g graph on which algorithm is run
+     * @param s source node in the graph
+     */
+    public DijikstraDialAlgorithm(Graph g, short s) {
+        this(new CsrGraph(g), s);
+    }
+
+
+    /**
+     * Constructor used to run the algorithm on a CSR snapshot.
+     * Falls back to the fibonacci heap when the largest edge cost is
+     * above DialQueue.MAX_COST.
+     * @param g graph snapshot on which algorithm is run
+     * @param s source node in the graph
+     */
+    public DijikstraDialAlgorithm(ICsrGraph g, int s) {
+        this.source = s;
+        int maxCost = Math.max(g.getMaxEdgeCost(), 1);
+        this.bucketQueue = maxCost <= DialQueue.MAX_COST;
+        if (this.bucketQueue) {
+            this.engine = new DijikstraEngine(g,
+                    new DialQueue(g.getNumberOfVertices(), maxCost));
+        } else {
+            this.engine = new DijikstraEngine(g, QueueType.FIBONACCI);
+        }
+    }
+
+
+    /**
+     * Source node.
+     */
+    private int source;
+    /**
+     * Engine that runs the algorithm on the bucket queue.
+     */
+    private DijikstraEngine engine;
+    /**
+     * Whether the engine runs on the bucket queue, false after the
+     * fallback to the fibonacci heap.
+     */
+    private boolean bucketQueue;
+
+
+    /**
+     * Returns whether the bucket scheme should be chosen for a graph.
+     * @param maxEdgeCost largest edge cost of the graph
+     * @return true when the costs are small enough for the buckets
+     */
+    public static boolean isPreferred(final int maxEdgeCost) {
+        return maxEdgeCost <= MAX_PREFERRED_COST;
+    }
+
+
+    /**
+     * getter for whether the bucket queue is used.
+     * @return true for the bucket queue, false when the edge costs
+     * exceed DialQueue.MAX_COST and the fibonacci heap runs instead
+     */
+    public final boolean isBucketQueue() {
+        return this.bucketQueue;
+    }
+
+
+    /**
+     * getter for path costs from source to other nodes.
+     * Unreachable vertices have the cost DijikstraEngine.INFINITY.
+     * @return the path costs to the caller
+     */
+    public final int[] getDistances() {
+        return this.engine.getDistances();
+    }
+
+
+    /**
+     * Run the Dijikstra Algorithm in bucket scheme.
+     * This is the actual function that run the algorithm
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void runDialAlgorithm() throws Exception {
+        this.engine.run(this.source);
+    }
+
+
+    /**
+     * getter for the predecessor of every node on its shortest path.
+     * Only meaningful for vertices with a cost below
+     * DijikstraEngine.INFINITY.
+     * @return the predecessors to the caller
+     */
+    public final int[] getPredecessors() {
+        return this.engine.getPredecessors();
+    }
+
+
+    /**
+     * Copies the result of the last run into a shortest path tree.
+     * @return shortest path tree of the last run
+     */
+    public final ShortestPathTree getShortestPathTree() {
+        return this.engine.getShortestPathTree();
+    }
+
+
+    /**
+     * Cost of the shortest path between two vertices in bucket scheme.
+     * Stops as soon as the target is settled instead of running the
+     * whole graph.
+     * @param s source node in the graph
+     * @param target target node in the graph
+     * @return cost of the shortest path, DijikstraEngine.INFINITY when
+     * the target is not reachable
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final int shortestDistance(final int s, final int target)
+            throws Exception {
+        return this.engine.shortestDistance(s, target);
+    }
+
+
+    /**
+     * The k vertices nearest to a source in bucket scheme.
+     * Stops as soon as k vertices are settled, their costs can be read
+     * from getDistances().
+     * @param s source node in the graph
+     * @param k number of vertices to find
+     * @return up to k vertices in the order of their cost
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final int[] kNearest(final int s, final int k) throws Exception {
+        return this.engine.kNearest(s, k);
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.Arrays;
+
+/**
+ * Class to run the shortest path algorithm with long path costs.
+ * On large graphs the sum of int edge costs along a path can pass
+ * Integer.MAX_VALUE, this scheme accumulates the costs in a long[] so
+ * such paths are reported exactly. The next smallest vertex comes from
+ * a binary heap of (cost, vertex) pairs kept in two parallel primitive
+ * arrays, outdated pairs are skipped instead of using decreaseKey.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class DijikstraLongAlgorithm {
+
+    /**
+     * Cost reported for vertices that are not reachable from the source.
+     */
+    public static final long INFINITY = Long.MAX_VALUE;
+
+
+    /**
+     * Constructor used to run the algorithm on a CSR snapshot.
+     * @param g graph snapshot on which algorithm is run
+     * @param s source node in the graph
+     */
+    public DijikstraLongAlgorithm(ICsrGraph g, int s) {
+        this.myGraph = g;
+        this.source = s;
+        this.pathCosts = new long[g.getNumberOfVertices()];
+        this.heapKeys = new long[Math.max(g.getNumberOfVertices(), 1)];
+        this.heapVertices = new int[this.heapKeys.length];
+        this.heapSize = 0;
+    }
+
+
+    /**
+     * Graph Object.
+     */
+    private ICsrGraph myGraph;
+    /**
+     * Source node.
+     */
+    private int source;
+    /**
+     * Cost of path from source to all nodes.
+     */
+    private long[] pathCosts;
+    /**
+     * Costs of the heap entries in heap order.
+     */
+    private long[] heapKeys;
+    /**
+     * Vertices of the heap entries in heap order.
+     */
+    private int[] heapVertices;
+    /**
+     * Number of heap entries.
+     */
+    private int heapSize;
+
+
+    /**
+     * getter for path costs from source to other nodes.
+     * Unreachable vertices have the cost INFINITY.
+     * @return the path costs to the caller
+     */
+    public final long[] getLongDistances() {
+        return this.pathCosts;
+    }
+
+
+    /**
+     * Run the Dijikstra Algorithm with long path costs.
+     * This is the actual function that run the algorithm
+     */
+    public final void runLongAlgorithm() {
+        ICsrGraph g = this.myGraph;
+        long[] costs = this.pathCosts;
+        Arrays.fill(costs, INFINITY);
+        costs[this.source] = 0;
+        this.heapSize = 0;
+        push(0, this.source);
+        while (this.heapSize > 0) {
+            long base = this.heapKeys[0];
+            int u = this.heapVertices[0];
+            pop();
+            if (base > costs[u]) {
+                continue;
+            }
+            for (int e = g.edgeBegin(u); e < g.edgeEnd(u); e++) {
+                int v = g.edgeTarget(e);
+                long toReach = base + g.edgeCost(e);
+                if (toReach < costs[v]) {
+                    costs[v] = toReach;
+                    push(toReach, v);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Adds an entry to the heap.
+     * @param key cost of the entry
+     * @param v vertex of the entry
+     */
+    private void push(final long key, final int v) {
+        if (this.heapSize == this.heapKeys.length) {
+            this.heapKeys = Arrays.copyOf(this.heapKeys, this.heapSize * 2);
+            this.heapVertices = Arrays.copyOf(this.heapVertices, this.heapSize * 2);
+        }
+        int i = this.heapSize++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (this.heapKeys[p] <= key) {
+                break;
+            }
+            this.heapKeys[i] = this.heapKeys[p];
+            this.heapVertices[i] = this.heapVertices[p];
+            i = p;
+        }
+        this.heapKeys[i] = key;
+        this.heapVertices[i] = v;
+    }
+
+
+    /**
+     * Removes the top entry of the heap.
+     */
+    private void pop() {
+        int last = --this.heapSize;
+        long key = this.heapKeys[last];
+        int v = this.heapVertices[last];
+        int i = 0;
+        int half = this.heapSize >>> 1;
+        while (i < half) {
+            int c = 2 * i + 1;
+            if (c + 1 < this.heapSize && this.heapKeys[c + 1] < this.heapKeys[c]) {
+                c++;
+            }
+            if (key <= this.heapKeys[c]) {
+                break;
+            }
+            this.heapKeys[i] = this.heapKeys[c];
+            this.heapVertices[i] = this.heapVertices[c];
+            i = c;
+        }
+        this.heapKeys[i] = key;
+        this.heapVertices[i] = v;
+    }
+}
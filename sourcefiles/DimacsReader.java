@@ -0,0 +1,157 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+
+/**
+ * Reads the files of the DIMACS shortest path challenge.
+ * A graph file (.gr) holds a problem line "p sp n m" and m arc lines
+ * "a u v w", the arcs are kept directed. The road networks list every
+ * road in both directions. A coordinate file (.co) holds a problem line
+ * "p aux sp co n" and n lines "v id x y". Lines starting with c are
+ * comments and vertex ids are 1 based in both files. The coordinate
+ * arrays are not sized from the untrusted problem line alone, they start
+ * at most EdgeBuffer.MAX_PREALLOCATED long and grow as v lines arrive.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class DimacsReader extends GraphImporter {
+
+    /**
+     * Constructor used to initialize the reader.
+     * @param in input stream of the .gr or .co file
+     */
+    public DimacsReader(final InputStream in) {
+        super(in);
+        this.coordinateX = null;
+        this.coordinateY = null;
+        this.numberOfCoordinates = 0;
+        this.numberOfPoints = 0;
+    }
+
+
+    /**
+     * X coordinate of every vertex, null for a graph file.
+     */
+    private int[] coordinateX;
+    /**
+     * Y coordinate of every vertex, null for a graph file.
+     */
+    private int[] coordinateY;
+    /**
+     * Number of coordinate lines read.
+     */
+    private int numberOfCoordinates;
+    /**
+     * Number of vertices of the coordinate problem line.
+     */
+    private int numberOfPoints;
+
+
+    /**
+     * getter for the x coordinates of a .co file.
+     * @return x coordinate of every vertex, null for a graph file
+     */
+    public final int[] getCoordinateX() {
+        return this.coordinateX;
+    }
+
+
+    /**
+     * getter for the y coordinates of a .co file.
+     * @return y coordinate of every vertex, null for a graph file
+     */
+    public final int[] getCoordinateY() {
+        return this.coordinateY;
+    }
+
+
+    /**
+     * Parses one line of the file.
+     * @throws Exception when encountered with exceptional cases
+     */
+    @Override
+    protected final void parseLine() throws Exception {
+        int kind = peek();
+        if (kind == -1 || kind == 'c') {
+            return;
+        }
+        if (skipToken() != 1) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        if (kind == 'a') {
+            int v1 = nextInt() - 1;
+            int v2 = nextInt() - 1;
+            addEdge(v1, v2, nextInt());
+        } else if (kind == 'v') {
+            int v = nextInt() - 1;
+            if (this.coordinateX == null || v < 0 || v >= this.numberOfPoints) {
+                throw new IllegalArgumentException(WRONG_FILE_INPUTS);
+            }
+            if (v >= this.coordinateX.length) {
+                growCoordinates(v);
+            }
+            this.coordinateX[v] = nextInt();
+            this.coordinateY[v] = nextInt();
+            this.numberOfCoordinates++;
+        } else if (kind == 'p') {
+            String problem = nextToken();
+            if ("sp".equals(problem)) {
+                int n = nextInt();
+                startGraph(n, nextInt(), true);
+            } else if ("aux".equals(problem) && "sp".equals(nextToken())
+                    && "co".equals(nextToken()) && this.coordinateX == null) {
+                int n = nextInt();
+                if (n <= 0) {
+                    throw new IllegalArgumentException(WRONG_ARGUMENTS);
+                }
+                this.numberOfPoints = n;
+                this.coordinateX = new int[Math.min(n, EdgeBuffer.MAX_PREALLOCATED)];
+                this.coordinateY = new int[this.coordinateX.length];
+            } else {
+                throw new IllegalArgumentException(WRONG_ARGUMENTS);
+            }
+        } else {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+        if (hasToken()) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS);
+        }
+    }
+
+
+    /**
+     * Grows the coordinate arrays to hold a vertex.
+     * The length is doubled, but never beyond the problem line.
+     * @param v zero based vertex id of a coordinate line
+     */
+    private void growCoordinates(final int v) {
+        int c = (int) Math.min(Math.max((long) this.coordinateX.length * 2, v + 1L),
+                this.numberOfPoints);
+        this.coordinateX = Arrays.copyOf(this.coordinateX, c);
+        this.coordinateY = Arrays.copyOf(this.coordinateY, c);
+    }
+
+
+    /**
+     * Checks the number of arcs or coordinates against the problem line.
+     * @throws Exception when encountered with exceptional cases
+     */
+    @Override
+    protected final void finish() throws Exception {
+        if (getEdgeCount() != getNumberOfEdges()) {
+            throw new InputMismatchException("Insufficient Edges in input");
+        }
+        if (this.coordinateX != null && this.numberOfCoordinates != this.numberOfPoints) {
+            throw new InputMismatchException("Insufficient coordinates in input");
+        }
+        if (this.coordinateX != null && this.coordinateX.length != this.numberOfPoints) {
+            growCoordinates(this.numberOfPoints - 1);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes shortest path distances as text through a channel.
+ * The numbers are formatted straight into one reusable byte buffer that
+ * is written out when full, instead of one synchronized and flushing
+ * println per vertex. The static dump functions store a distance array
+ * as raw little endian ints or longs through a memory mapped file, which
+ * other tools can map or read without parsing.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class DistanceWriter {
+
+    /**
+     * STATIC int for the size of the output buffer in bytes.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * STATIC int for the most characters of a long value.
+     */
+    private static final int MAX_LONG_CHARS = 20;
+    /**
+     * STATIC bytes of the line separator, the same as println writes.
+     */
+    private static final byte[] NEW_LINE = System.lineSeparator().getBytes();
+
+    /**
+     * Constructor used to initialize the writer.
+     * The channel is not closed by the writer.
+     * @param out channel to write to
+     */
+    public DistanceWriter(final WritableByteChannel out) {
+        this.output = out;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+
+    /**
+     * Channel the text is written to.
+     */
+    private final WritableByteChannel output;
+    /**
+     * Reusable buffer the text is formatted into.
+     */
+    private final ByteBuffer buffer;
+
+
+    /**
+     * Writes one line of text.
+     * @param line text of the line without the line separator
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void writeLine(final String line) throws Exception {
+        byte[] bytes = line.getBytes();
+        if (this.buffer.remaining() < bytes.length + NEW_LINE.length) {
+            flush();
+        }
+        if (this.buffer.remaining() < bytes.length + NEW_LINE.length) {
+            write(ByteBuffer.wrap(bytes));
+        } else {
+            this.buffer.put(bytes);
+        }
+        this.buffer.put(NEW_LINE);
+    }
+
+
+    /**
+     * Writes every distance on a line of its own.
+     * @param distances distance of every vertex
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void writeDistances(final int[] distances) throws Exception {
+        for (int i = 0; i < distances.length; i++) {
+            writeInt(distances[i]);
+        }
+    }
+
+
+    /**
+     * Writes every long distance on a line of its own.
+     * @param distances distance of every vertex
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void writeDistances(final long[] distances) throws Exception {
+        for (int i = 0; i < distances.length; i++) {
+            writeLong(distances[i]);
+        }
+    }
+
+
+    /**
+     * Writes one int value and the line separator.
+     * @param value value to write
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void writeInt(final int value) throws Exception {
+        writeLong(value);
+    }
+
+
+    /**
+     * Writes one long value and the line separator.
+     * The digits are produced from the right into the buffer and then
+     * reversed, no String is created. Negative values are divided
+     * without changing the sign, so Long.MIN_VALUE needs no special case.
+     * @param value value to write
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void writeLong(final long value) throws Exception {
+        if (this.buffer.remaining() < MAX_LONG_CHARS + NEW_LINE.length) {
+            flush();
+        }
+        byte[] bytes = this.buffer.array();
+        int pos = this.buffer.position();
+        long v = value;
+        if (v < 0) {
+            bytes[pos++] = '-';
+        } else {
+            v = -v;
+        }
+        int first = pos;
+        do {
+            bytes[pos++] = (byte) ('0' - v % 10);
+            v /= 10;
+        } while (v != 0);
+        for (int i = first, j = pos - 1; i < j; i++, j--) {
+            byte temp = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = temp;
+        }
+        for (int i = 0; i < NEW_LINE.length; i++) {
+            bytes[pos++] = NEW_LINE[i];
+        }
+        this.buffer.position(pos);
+    }
+
+
+    /**
+     * Writes the buffered text to the channel.
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void flush() throws Exception {
+        this.buffer.flip();
+        write(this.buffer);
+        this.buffer.clear();
+    }
+
+
+    /**
+     * Writes all remaining bytes of a buffer to the channel.
+     * @param bytes buffer to write
+     * @throws Exception when encountered with exceptional cases
+     */
+    private void write(final ByteBuffer bytes) throws Exception {
+        while (bytes.hasRemaining()) {
+            this.output.write(bytes);
+        }
+    }
+
+
+    /**
+     * Stores a distance array as raw little endian ints.
+     * The file is mapped and the array is copied into the mapping in one
+     * bulk put, the file is exactly 4 bytes per vertex. One mapping is
+     * limited to 2 GB, about 536 million vertices.
+     * @param distances distance of every vertex
+     * @param path path of the file to create
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static void dump(final int[] distances, final String path)
+            throws Exception {
+        RandomAccessFile file = new RandomAccessFile(path, "rw");
+        try {
+            FileChannel channel = file.getChannel();
+            channel.truncate(0);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, 4L * distances.length);
+            mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(distances);
+            mapped.force();
+        } finally {
+            file.close();
+        }
+    }
+
+
+    /**
+     * Stores a long distance array as raw little endian longs.
+     * The file is exactly 8 bytes per vertex, one mapping is limited to
+     * 2 GB, about 268 million vertices.
+     * @param distances distance of every vertex
+     * @param path path of the file to create
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static void dump(final long[] distances, final String path)
+            throws Exception {
+        RandomAccessFile file = new RandomAccessFile(path, "rw");
+        try {
+            FileChannel channel = file.getChannel();
+            channel.truncate(0);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, 8L * distances.length);
+            mapped.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().put(distances);
+            mapped.force();
+        } finally {
+            file.close();
+        }
+    }
+
+
+    /**
+     * Maps a distance dump written by dump read only.
+     * @param path path of the dump file
+     * @return little endian int view of the distances
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static IntBuffer mapDump(final String path) throws Exception {
+        RandomAccessFile file = new RandomAccessFile(path, "r");
+        try {
+            FileChannel channel = file.getChannel();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size() & ~3L)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        } finally {
+            file.close();
+        }
+    }
+}
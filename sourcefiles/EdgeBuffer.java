@@ -0,0 +1,414 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Growable buffer of undirected edges held in primitive arrays.
+ * Used to collect the edges of large graphs without creating an
+ * object per edge and to build a CsrGraph from them.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class EdgeBuffer {
+
+    /**
+     * STATIC int for the default capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * STATIC int for the most edges preallocated from a count read from
+     * a file header, larger buffers grow as the edges arrive.
+     */
+    public static final int MAX_PREALLOCATED = 1 << 22;
+    /**
+     * STATIC String for size exception.
+     */
+    private static final String TOO_MANY_EDGES = "Number of half edges exceeds the maximum array size";
+    /**
+     * STATIC String for merge exception.
+     */
+    private static final String MERGE_EXCEPTION = "Parallel merge of the edge buffers failed";
+    /**
+     * STATIC String for merge of buffers that are not split into blocks.
+     */
+    private static final String NOT_SPLIT = "Edge buffers are not split into the vertex blocks of the merge";
+    /**
+     * First end point of every edge.
+     */
+    private int[] sources;
+    /**
+     * Second end point of every edge.
+     */
+    private int[] destinations;
+    /**
+     * Cost of every edge.
+     */
+    private int[] costs;
+    /**
+     * Number of edges currently in the buffer.
+     */
+    private int size;
+    /**
+     * Number of vertices of the graph when the edges are split into
+     * vertex blocks, 0 otherwise.
+     */
+    private final int numberOfVertices;
+    /**
+     * Indices of the edges with an end point in each vertex block, null
+     * when the edges are not split.
+     */
+    private int[][] blockEdges;
+    /**
+     * Number of edge indices of each vertex block.
+     */
+    private int[] blockEdgeCount;
+    /**
+     * Number of half edges of each vertex block.
+     */
+    private int[] blockHalfEdges;
+
+
+    /**
+     * Constructor with the default capacity.
+     */
+    public EdgeBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Constructor that preallocates room for the given number of edges.
+     * @param capacity expected number of edges
+     */
+    public EdgeBuffer(final int capacity) {
+        int c = Math.max(capacity, 1);
+        this.sources = new int[c];
+        this.destinations = new int[c];
+        this.costs = new int[c];
+        this.size = 0;
+        this.numberOfVertices = 0;
+    }
+
+
+    /**
+     * Constructor of a buffer that also splits its edges into vertex
+     * blocks as they are added, for the parallel merge.
+     * Every edge is listed in the blocks of its end points, so a merge
+     * task finds the half edges of its block without a scan of all edges.
+     * @param capacity expected number of edges
+     * @param n number of vertices of the graph
+     * @param blocks number of vertex blocks, the number of merged buffers
+     */
+    public EdgeBuffer(final int capacity, final int n, final int blocks) {
+        int c = Math.max(capacity, 1);
+        if (n <= 0 || blocks <= 0) {
+            throw new IllegalArgumentException(NOT_SPLIT);
+        }
+        this.sources = new int[c];
+        this.destinations = new int[c];
+        this.costs = new int[c];
+        this.size = 0;
+        this.numberOfVertices = n;
+        this.blockEdges = new int[blocks][];
+        for (int b = 0; b < blocks; b++) {
+            this.blockEdges[b] = new int[Math.max(DEFAULT_CAPACITY, c / blocks)];
+        }
+        this.blockEdgeCount = new int[blocks];
+        this.blockHalfEdges = new int[blocks];
+    }
+
+
+    /**
+     * getter for number of edges in the buffer.
+     * @return number of edges
+     */
+    public final int size() {
+        return this.size;
+    }
+
+
+    /**
+     * Append an edge to the buffer.
+     * @param v1 first end point
+     * @param v2 second end point
+     * @param cost cost of the edge
+     */
+    public final void add(final int v1, final int v2, final int cost) {
+        if (this.size == this.sources.length) {
+            grow();
+        }
+        this.sources[this.size] = v1;
+        this.destinations[this.size] = v2;
+        this.costs[this.size] = cost;
+        if (this.blockEdges != null) {
+            int blocks = this.blockEdges.length;
+            int b1 = blockOf(v1, blocks, this.numberOfVertices);
+            int b2 = blockOf(v2, blocks, this.numberOfVertices);
+            addToBlock(b1);
+            if (b2 != b1) {
+                addToBlock(b2);
+            }
+            this.blockHalfEdges[b1]++;
+            this.blockHalfEdges[b2]++;
+        }
+        this.size++;
+    }
+
+
+    /**
+     * Lists the edge being added in a vertex block.
+     * @param block block of one of its end points
+     */
+    private void addToBlock(final int block) {
+        int[] list = this.blockEdges[block];
+        int count = this.blockEdgeCount[block];
+        if (count == list.length) {
+            int c = (int) Math.min((long) list.length * 2, Integer.MAX_VALUE - 8);
+            if (c <= count) {
+                throw new IllegalStateException(TOO_MANY_EDGES);
+            }
+            list = Arrays.copyOf(list, c);
+            this.blockEdges[block] = list;
+        }
+        list[count] = this.size;
+        this.blockEdgeCount[block] = count + 1;
+    }
+
+
+    /**
+     * Doubles the capacity of the buffer.
+     */
+    private void grow() {
+        int c = (int) Math.min((long) this.sources.length * 2, Integer.MAX_VALUE - 8);
+        if (c <= this.size) {
+            throw new IllegalStateException(TOO_MANY_EDGES);
+        }
+        this.sources = Arrays.copyOf(this.sources, c);
+        this.destinations = Arrays.copyOf(this.destinations, c);
+        this.costs = Arrays.copyOf(this.costs, c);
+    }
+
+
+    /**
+     * Build an undirected CSR graph from the buffered edges.
+     * Every edge is stored once for each end point, the half edges are
+     * placed with a counting sort on the vertex number.
+     * @param n number of vertices of the graph
+     * @return the CSR graph
+     */
+    public final CsrGraph toCsrGraph(final int n) {
+        if ((long) this.size * 2 > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException(TOO_MANY_EDGES);
+        }
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < this.size; i++) {
+            offsets[this.sources[i] + 1]++;
+            offsets[this.destinations[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] position = Arrays.copyOf(offsets, n);
+        int[] targets = new int[this.size * 2];
+        int[] weights = new int[this.size * 2];
+        for (int i = 0; i < this.size; i++) {
+            int v1 = this.sources[i];
+            int v2 = this.destinations[i];
+            int p = position[v1]++;
+            targets[p] = v2;
+            weights[p] = this.costs[i];
+            p = position[v2]++;
+            targets[p] = v1;
+            weights[p] = this.costs[i];
+        }
+        return new CsrGraph(n, offsets, targets, weights);
+    }
+
+
+    /**
+     * Build a directed CSR graph from the buffered edges.
+     * Every edge is an arc from its first to its second end point and is
+     * stored only once, at its first end point.
+     * @param n number of vertices of the graph
+     * @return the CSR graph
+     */
+    public final CsrGraph toDirectedCsrGraph(final int n) {
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < this.size; i++) {
+            offsets[this.sources[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] position = Arrays.copyOf(offsets, n);
+        int[] targets = new int[this.size];
+        int[] weights = new int[this.size];
+        for (int i = 0; i < this.size; i++) {
+            int p = position[this.sources[i]]++;
+            targets[p] = this.destinations[i];
+            weights[p] = this.costs[i];
+        }
+        return new CsrGraph(n, offsets, targets, weights, true);
+    }
+
+
+    /**
+     * Build an undirected CSR graph from several edge buffers in parallel.
+     * The buffers must be split into one vertex block per buffer, so
+     * every buffer already knows which of its edges touch each block and
+     * how many half edges they give. The block sizes are summed into the
+     * block start positions, then every task counts, places and offsets
+     * the half edges of its own block from those lists, reading each
+     * edge once per block it touches. The result is the same as
+     * toCsrGraph on one buffer holding the edges of all buffers in order.
+     * The offsets array serves as count and write cursor.
+     * @param buffers edge buffers in input order, split into
+     *        buffers.length vertex blocks of n vertices
+     * @param n number of vertices of the graph
+     * @param pool executor running one task per block
+     * @return the CSR graph
+     * @throws Exception when encountered with exceptional cases
+     */
+    public static CsrGraph toCsrGraph(final EdgeBuffer[] buffers, final int n,
+            final ExecutorService pool) throws Exception {
+        final int parts = buffers.length;
+        long total = 0;
+        for (int c = 0; c < parts; c++) {
+            EdgeBuffer b = buffers[c];
+            if (b.blockEdges == null || b.blockEdges.length != parts || b.numberOfVertices != n) {
+                throw new IllegalArgumentException(NOT_SPLIT);
+            }
+            total += b.size;
+        }
+        if (total * 2 > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException(TOO_MANY_EDGES);
+        }
+        final int[] offsets = new int[n + 1];
+        final int[] blockStart = new int[parts + 1];
+        final int[] targets = new int[(int) total * 2];
+        final int[] weights = new int[(int) total * 2];
+        for (int block = 0; block < parts; block++) {
+            int sum = blockStart[block];
+            for (int c = 0; c < parts; c++) {
+                sum += buffers[c].blockHalfEdges[block];
+            }
+            blockStart[block + 1] = sum;
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(parts);
+        for (int c = 0; c < parts; c++) {
+            final int block = c;
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    int lo = blockBegin(block, parts, n);
+                    int hi = blockBegin(block + 1, parts, n);
+                    for (int p = 0; p < parts; p++) {
+                        EdgeBuffer b = buffers[p];
+                        int[] list = b.blockEdges[block];
+                        for (int j = 0; j < b.blockEdgeCount[block]; j++) {
+                            int i = list[j];
+                            int v1 = b.sources[i];
+                            int v2 = b.destinations[i];
+                            if (v1 >= lo && v1 < hi) {
+                                offsets[v1]++;
+                            }
+                            if (v2 >= lo && v2 < hi) {
+                                offsets[v2]++;
+                            }
+                        }
+                    }
+                    int running = blockStart[block];
+                    for (int v = lo; v < hi; v++) {
+                        int count = offsets[v];
+                        offsets[v] = running;
+                        running += count;
+                    }
+                    for (int p = 0; p < parts; p++) {
+                        EdgeBuffer b = buffers[p];
+                        int[] list = b.blockEdges[block];
+                        for (int j = 0; j < b.blockEdgeCount[block]; j++) {
+                            int i = list[j];
+                            int v1 = b.sources[i];
+                            int v2 = b.destinations[i];
+                            if (v1 >= lo && v1 < hi) {
+                                int pos = offsets[v1]++;
+                                targets[pos] = v2;
+                                weights[pos] = b.costs[i];
+                            }
+                            if (v2 >= lo && v2 < hi) {
+                                int pos = offsets[v2]++;
+                                targets[pos] = v1;
+                                weights[pos] = b.costs[i];
+                            }
+                        }
+                    }
+                    //Every cursor ends at the start of the next vertex
+                    for (int v = hi - 1; v > lo; v--) {
+                        offsets[v] = offsets[v - 1];
+                    }
+                    if (hi > lo) {
+                        offsets[lo] = blockStart[block];
+                    }
+                    return null;
+                }
+            });
+        }
+        invokeAll(pool, tasks);
+        offsets[n] = (int) total * 2;
+        return new CsrGraph(n, offsets, targets, weights);
+    }
+
+
+    /**
+     * First vertex of a block when the vertices are split into equal blocks.
+     * @param block block number, blocks for the end of the last block
+     * @param blocks number of blocks
+     * @param n number of vertices
+     * @return first vertex of the block
+     */
+    private static int blockBegin(final int block, final int blocks,
+            final int n) {
+        return (int) (((long) n * block + blocks - 1) / blocks);
+    }
+
+
+    /**
+     * Block of a vertex when the vertices are split into equal blocks.
+     * @param v vertex number
+     * @param blocks number of blocks
+     * @param n number of vertices
+     * @return block holding v, blockBegin of it is at most v
+     */
+    private static int blockOf(final int v, final int blocks, final int n) {
+        return (int) ((long) v * blocks / n);
+    }
+
+
+    /**
+     * Runs the tasks on the pool and waits for all of them.
+     * @param pool executor running the tasks
+     * @param tasks tasks to run
+     * @throws Exception when a task failed
+     */
+    private static void invokeAll(final ExecutorService pool,
+            final List<Callable<Void>> tasks) throws Exception {
+        try {
+            for (Future<Void> f : pool.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (ExecutionException ex) {
+            throw new Exception(MERGE_EXCEPTION, ex.getCause());
+        }
+    }
+}
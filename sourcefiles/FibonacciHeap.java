@@ -4,8 +4,7 @@
  */
 
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Class to represent a fibonacci heap.
@@ -14,6 +13,12 @@ import java.util.List;
  */
 public class FibonacciHeap {
 
+    /**
+     * STATIC double for the golden ratio, bounds the degree of the nodes.
+     */
+    private static final double PHI = (1.0 + Math.sqrt(5.0)) / 2.0;
+
+
     /**
      * Constructor to initialize a new fibonacci heap.
      * Creates a new fibonacci heap with 0 nodes.
@@ -21,6 +26,23 @@ public class FibonacciHeap {
     public FibonacciHeap() {
         this.minimum = null;
         this.numberOfNodes = 0;
+        this.nodePool = null;
+        this.degreeTable = new Node[degreeBound(0)];
+    }
+
+
+    /**
+     * Constructor to initialize a reusable fibonacci heap.
+     * Nodes for the node numbers 0 to capacity - 1 are taken from a pool
+     * and the consolidation table is sized up front, so after the first
+     * query a heap that is reused through clear() does not allocate.
+     * @param capacity number of node numbers served from the pool
+     */
+    public FibonacciHeap(final int capacity) {
+        this.minimum = null;
+        this.numberOfNodes = 0;
+        this.nodePool = new Node[capacity];
+        this.degreeTable = new Node[degreeBound(capacity)];
     }
 
 
@@ -33,14 +55,81 @@ public class FibonacciHeap {
     /**
      * number of nodes currently in the fibonacci heap.
      */
-    private short numberOfNodes;
+    private int numberOfNodes;
+
+
+    /**
+     * Pool of reusable nodes indexed by node number, null when not pooled.
+     */
+    private final Node[] nodePool;
+
+
+    /**
+     * Roots by degree used while consolidating.
+     */
+    private Node[] degreeTable;
+
+
+    /**
+     * Size of a degree table that covers a heap of n nodes.
+     * The degree of a node in a fibonacci heap is at most log_phi(n).
+     * @param n number of nodes
+     * @return the table size
+     */
+    private static int degreeBound(final int n) {
+        return (int) (Math.log(Math.max(n, 2)) / Math.log(PHI)) + 2;
+    }
+
+
+    /**
+     * Removes all nodes from the heap.
+     * Pooled nodes are reinitialized when they are inserted again,
+     * so the heap and its node pool can be reused for the next query.
+     */
+    public final void clear() {
+        minimum = null;
+        numberOfNodes = 0;
+    }
+
+
+    /**
+     * Removes all nodes from the heap and resets their membership flags.
+     * The trees are walked depth first through the child and sibling
+     * links, so the cost is proportional to the nodes left in the heap.
+     * @param membership flags indexed by node number, set to false for
+     * every node in the heap
+     */
+    public final void clear(final boolean[] membership) {
+        Node node = minimum;
+        while (node != null) {
+            membership[node.nodeNumber] = false;
+            if (node.child != null) {
+                node = node.child;
+                continue;
+            }
+            while (true) {
+                Node p = node.parent;
+                Node first = (p == null) ? minimum : p.child;
+                if (node.rightSibling != first) {
+                    node = node.rightSibling;
+                    break;
+                }
+                if (p == null) {
+                    node = null;
+                    break;
+                }
+                node = p;
+            }
+        }
+        clear();
+    }
 
 
     /**
      * getter for number of nodes.
      * @return numberOfNodes in the fibonacci heap
      */
-    public final short getNumberOfNodes() {
+    public final int getNumberOfNodes() {
         return numberOfNodes;
     }
 
@@ -52,7 +141,18 @@ public class FibonacciHeap {
      * @return Node which got inserted
      */
     public final Node insert(int nNum, int keyVal) {
-        Node newNode = new Node(nNum, keyVal);
+        Node newNode;
+        if (nodePool != null && nNum >= 0 && nNum < nodePool.length) {
+            newNode = nodePool[nNum];
+            if (newNode == null) {
+                newNode = new Node(nNum, keyVal);
+                nodePool[nNum] = newNode;
+            } else {
+                newNode.reset(keyVal);
+            }
+        } else {
+            newNode = new Node(nNum, keyVal);
+        }
 
         minimum = meld(minimum, newNode);
 
@@ -147,30 +247,41 @@ public class FibonacciHeap {
             return minNode;
         }
 
-        //Consolidate teh fibonacci tree
-        //This contributes to the better amortized complexity
-        //of the remove min functionality
-        List<Node> degreeTable = new ArrayList<>();
-
-        List<Node> nodes = new ArrayList<>();
-        for (Node n = minimum; nodes.isEmpty() || nodes.get(0) != n; n = n.rightSibling) {
-            nodes.add(n);
-        }
-
-        for (Node n : nodes) {
-            while (true) {
+        consolidate();
+        return minNode;
+    }
 
-                while (n.degree >= degreeTable.size()) {
-                    degreeTable.add(null);
-                }
 
-                if (degreeTable.get(n.degree) == null) {
-                    degreeTable.set(n.degree, n);
-                    break;
-                }
+    /**
+     * Consolidate teh fibonacci tree.
+     * This contributes to the better amortized complexity
+     * of the remove min functionality. Every root is detached from the
+     * root list while walking it and linked with the root of equal
+     * degree in the degree table, the table then holds the new root list.
+     */
+    private void consolidate() {
+        int bound = degreeBound(numberOfNodes);
+        if (degreeTable.length < bound) {
+            degreeTable = Arrays.copyOf(degreeTable, bound);
+        }
 
-                Node temp = degreeTable.get(n.degree);
-                degreeTable.set(n.degree, null);
+        int roots = 0;
+        Node n = minimum;
+        do {
+            roots++;
+            n = n.rightSibling;
+        } while (n != minimum);
+
+        int maxDegree = 0;
+        Node next = minimum;
+        for (int i = 0; i < roots; i++) {
+            n = next;
+            next = n.rightSibling;
+            n.leftSibling = n;
+            n.rightSibling = n;
+            while (degreeTable[n.degree] != null) {
+                Node temp = degreeTable[n.degree];
+                degreeTable[n.degree] = null;
 
                 Node min = null;
                 Node max = null;
@@ -182,12 +293,6 @@ public class FibonacciHeap {
                     max = temp;
                 }
 
-                max.leftSibling.rightSibling = max.rightSibling;
-                max.rightSibling.leftSibling = max.leftSibling;
-
-                max.rightSibling = max;
-                max.leftSibling = max;
-
                 min.child = meld(min.child, max);
 
                 max.parent = min;
@@ -198,11 +303,19 @@ public class FibonacciHeap {
 
                 n = min;
             }
-            if (n.keyValue <= minimum.keyValue) {
-                minimum = n;
+            degreeTable[n.degree] = n;
+            if (n.degree > maxDegree) {
+                maxDegree = n.degree;
+            }
+        }
+
+        minimum = null;
+        for (int d = 0; d <= maxDegree; d++) {
+            if (degreeTable[d] != null) {
+                minimum = meld(minimum, degreeTable[d]);
+                degreeTable[d] = null;
             }
         }
-        return minNode;
     }
 
 
@@ -294,6 +407,20 @@ public class FibonacciHeap {
            this.nodeNumber = nNum;
            this.keyValue = kVal;
        }
+
+       /**
+        * Reinitializes a pooled node before it is inserted again.
+        * @param kVal key value of the node
+        */
+       private void reset(final int kVal) {
+           this.rightSibling = this;
+           this.leftSibling = this;
+           this.keyValue = kVal;
+           this.degree = 0;
+           this.childCut = false;
+           this.parent = null;
+           this.child = null;
+       }
        /**
         * Vertex node number.
         */
@@ -40,6 +40,15 @@ public class Graph implements IGraph {
      * Holds the adjacency list for the entire nodes of the graph.
      */
     private final List<List<Edge>> adjacencyList;
+    /**
+     * Hash index of the edges used for the duplicate edge check.
+     * It is null while the duplicate check is switched off.
+     */
+    private EdgeIndex edgeIndex;
+    /**
+     * Largest cost of an edge added to the graph.
+     */
+    private short maxEdgeCost;
 
     /**
      * Setter for edge cost.
@@ -57,6 +66,14 @@ public class Graph implements IGraph {
         return this.numberOfVertices;
     }
 
+    /**
+     * getter for the largest edge cost.
+     * @return largest edge cost, 0 for a graph without edges
+     */
+    public final int getMaxEdgeCost() {
+        return this.maxEdgeCost;
+    }
+
     /**
      * getter for adjacency list.
      * @return the adjacency list
@@ -65,6 +82,35 @@ public class Graph implements IGraph {
         return this.adjacencyList;
     }
 
+    /**
+     * getter for the duplicate edge check switch.
+     * @return true when addEdge rejects edges that are already present
+     */
+    public final boolean isCheckDuplicates() {
+        return this.edgeIndex != null;
+    }
+
+    /**
+     * Setter for the duplicate edge check switch.
+     * Trusted bulk input that never repeats an edge can switch the check
+     * off, addEdge then neither looks up nor maintains the edge index.
+     * Switching it back on rebuilds the index from the adjacency list.
+     * @param check true to reject edges that are already present
+     */
+    public final void setCheckDuplicates(final boolean check) {
+        if (!check) {
+            this.edgeIndex = null;
+        } else if (this.edgeIndex == null) {
+            this.edgeIndex = new EdgeIndex();
+            for (int i = 0; i < this.numberOfVertices; i++) {
+                List<Edge> neighbors = this.adjacencyList.get(i);
+                for (int j = 0; j < neighbors.size(); j++) {
+                    this.edgeIndex.add(i, neighbors.get(j).getNeighborNumber());
+                }
+            }
+        }
+    }
+
     /**
      * Default constructor.
      */
@@ -72,6 +118,7 @@ public class Graph implements IGraph {
         //Do nothing constructor
         this.numberOfVertices = 0;
         this.adjacencyList = null;
+        this.edgeIndex = null;
     }
 
     /**
@@ -85,6 +132,7 @@ public class Graph implements IGraph {
         for (int i = 0; i < this.numberOfVertices; i++) {
             this.adjacencyList.add(new ArrayList<Edge>());
         }
+        this.edgeIndex = new EdgeIndex();
     }
 
     /**
@@ -107,11 +155,18 @@ public class Graph implements IGraph {
         }
         int testCounter  = 0; ///To be removed later
         System.out.println("Number of edges    : " + numberOfEdges);
+        if (d != 100.0) {
+            this.edgeIndex = new EdgeIndex((int) numberOfEdges);
+        }
         do {
             testCounter++; ///To be removed later
             for (int i = 0; i < this.numberOfVertices; i++) {
                 this.adjacencyList.get(i).clear();
             }
+            this.maxEdgeCost = 0;
+            if (this.edgeIndex != null) {
+                this.edgeIndex.clear();
+            }
             System.out.println("INFO  :  Generating randomized edges and cost");
             if (d != 100.0 && d != 0.1) {
                 for (int i = 0; i < numberOfEdges;) {
@@ -150,13 +205,16 @@ public class Graph implements IGraph {
                 }
 //                System.out.println("Number of edges added to graph--- " + numEdges);
             } else {
+                //Every pair is added exactly once, so the duplicate check is skipped
+                setCheckDuplicates(false);
+                Random numGenerator = new Random();
                 for (int i = 0; i < this.numberOfVertices; i++) {
-                    for (int j = 0; j < this.numberOfVertices; j++) {
-                        Random numGenerator = new Random();
+                    ((ArrayList<Edge>) this.adjacencyList.get(i)).ensureCapacity(this.numberOfVertices - 1);
+                }
+                for (int i = 0; i < this.numberOfVertices; i++) {
+                    for (int j = i + 1; j < this.numberOfVertices; j++) {
                         int cost = numGenerator.nextInt(MAX_RANDOM_COST) + 1;
-                        if (i != j) {
-                            addEdge((short) i, (short) j, (short) cost);
-                        }
+                        addEdge((short) i, (short) j, (short) cost);
                     }
                 }
             }
@@ -214,7 +272,10 @@ public class Graph implements IGraph {
     @Override
     public final boolean addEdge(final short v1, final short v2,
             final short cost) {
-        if ((v1 == v2) || (cost == 0) || isEdgePresent(v1, v2)) {
+        if ((v1 == v2) || (cost == 0)) {
+            return false;
+        }
+        if (this.edgeIndex != null && !this.edgeIndex.add(v1, v2)) {
             return false;
         }
         boolean retVal1;
@@ -227,6 +288,9 @@ public class Graph implements IGraph {
         vertex2Neighbor.setNeighborNumber(v1);
         vertex2Neighbor.setEdgeCost(cost);
         retVal2 = this.adjacencyList.get(v2).add(vertex2Neighbor);
+        if (cost > this.maxEdgeCost) {
+            this.maxEdgeCost = cost;
+        }
         return (retVal1 & retVal2);
     }
 
@@ -246,22 +310,24 @@ public class Graph implements IGraph {
 
     /**
      * Returns whether an edge is present in between edges.
+     * Uses the edge index when the duplicate check is on, otherwise
+     * scans the neighbor list until the first match.
      * @param source source vertex
-     * @param destination destination vertex
+     * @param dest destination vertex
      * @return True is edge present or False if nor present
      */
     @Override
     public final boolean isEdgePresent(final short source, final short dest) {
-        boolean retVal;
-        retVal = false;
+        if (this.edgeIndex != null) {
+            return this.edgeIndex.contains(source, dest);
+        }
         List<Edge> neighbors = this.adjacencyList.get(source);
-        for (ListIterator<Edge> iter = neighbors.listIterator(); iter.hasNext();) {
-            Edge temp = iter.next();
-            if (dest == temp.getNeighborNumber()) {
-                retVal = true;
+        for (int i = 0; i < neighbors.size(); i++) {
+            if (dest == neighbors.get(i).getNeighborNumber()) {
+                return true;
             }
         }
-        return retVal;
+        return false;
     }
 
 
@@ -0,0 +1,77 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Interface methods for a graph in compressed sparse row form.
+ * The neighbors of vertex v are the half edges edgeBegin(v) to
+ * edgeEnd(v) - 1. The algorithms only read the graph through these
+ * methods, so it can live in heap arrays (CsrGraph) or in a memory
+ * mapped file (MappedCsrGraph).
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public interface ICsrGraph {
+
+    /**
+     * getter for number of vertices.
+     * @return number of vertices
+     */
+    int getNumberOfVertices();
+
+    /**
+     * getter for number of half edges.
+     * @return number of half edges
+     */
+    int getNumberOfHalfEdges();
+
+    /**
+     * getter for the largest edge cost.
+     * @return largest edge cost, 0 for a graph without edges
+     */
+    int getMaxEdgeCost();
+
+    /**
+     * Returns whether every edge is an arc stored only at its first end
+     * point, instead of once for each end point.
+     * @return true for a directed graph
+     */
+    boolean isDirected();
+
+    /**
+     * Position of the first half edge of a vertex.
+     * @param v vertex number
+     * @return index of the first half edge of v
+     */
+    int edgeBegin(int v);
+
+    /**
+     * Position after the last half edge of a vertex.
+     * @param v vertex number
+     * @return index one past the last half edge of v
+     */
+    int edgeEnd(int v);
+
+    /**
+     * Neighbor vertex of a half edge.
+     * @param e half edge index
+     * @return neighbor vertex number
+     */
+    int edgeTarget(int e);
+
+    /**
+     * Cost of a half edge.
+     * @param e half edge index
+     * @return cost of the edge
+     */
+    int edgeCost(int e);
+
+    /**
+     * Check whether every vertex is reachable from the source.
+     * @param s source vertex
+     * @return true when graph is properly connected.
+     */
+    boolean isConnected(int s);
+}
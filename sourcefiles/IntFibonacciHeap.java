@@ -0,0 +1,400 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.Arrays;
+
+/**
+ * Class to represent a fibonacci heap over the vertex numbers 0 to n - 1.
+ * Instead of one Node object per vertex the node fields are kept in
+ * parallel primitive arrays indexed by the vertex number, so a run does
+ * not allocate per vertex and the links are plain array lookups.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class IntFibonacciHeap implements DecreaseKeyQueue {
+
+    /**
+     * STATIC int marking a missing link.
+     */
+    private static final int NIL = -1;
+    /**
+     * STATIC double for the golden ratio, bounds the degree of the nodes.
+     */
+    private static final double PHI = (1.0 + Math.sqrt(5.0)) / 2.0;
+
+    /**
+     * Constructor to initialize a new fibonacci heap.
+     * Creates a new fibonacci heap with 0 nodes for vertices below n.
+     * @param n number of vertices that can be stored in the heap
+     */
+    public IntFibonacciHeap(final int n) {
+        this.parent = new int[n];
+        this.child = new int[n];
+        this.leftSibling = new int[n];
+        this.rightSibling = new int[n];
+        this.degree = new int[n];
+        this.keyValue = new int[n];
+        this.childCut = new boolean[n];
+        this.inHeap = new boolean[n];
+        this.degreeTable = new int[(int) (Math.log(Math.max(n, 2)) / Math.log(PHI)) + 2];
+        Arrays.fill(this.degreeTable, NIL);
+        this.minimum = NIL;
+        this.numberOfNodes = 0;
+    }
+
+
+    /**
+     * Parent of every node.
+     */
+    private final int[] parent;
+    /**
+     * Any one of the children of every node.
+     */
+    private final int[] child;
+    /**
+     * Left sibling in the circular doubly linked list.
+     */
+    private final int[] leftSibling;
+    /**
+     * Right sibling in the circular doubly linked list.
+     */
+    private final int[] rightSibling;
+    /**
+     * Number of children of every node.
+     */
+    private final int[] degree;
+    /**
+     * Key value of every node.
+     */
+    private final int[] keyValue;
+    /**
+     * childCut value of every node.
+     */
+    private final boolean[] childCut;
+    /**
+     * Whether the vertex is currently in the heap.
+     */
+    private final boolean[] inHeap;
+    /**
+     * Roots by degree used while consolidating, allocated once.
+     */
+    private final int[] degreeTable;
+    /**
+     * Vertex with the minimum key in the fibonacci heap.
+     */
+    private int minimum;
+    /**
+     * number of nodes currently in the fibonacci heap.
+     */
+    private int numberOfNodes;
+
+
+    /**
+     * getter for number of nodes.
+     * @return numberOfNodes in the fibonacci heap
+     */
+    public final int getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+
+    /**
+     * Removes all vertices from the heap so it can be reused.
+     * The trees are walked through the child, sibling and parent links,
+     * so the cost is proportional to the vertices left in the heap and
+     * not to the number of vertices of the graph.
+     */
+    @Override
+    public final void clear() {
+        int node = minimum;
+        while (node != NIL) {
+            inHeap[node] = false;
+            if (child[node] != NIL) {
+                node = child[node];
+                continue;
+            }
+            while (true) {
+                int p = parent[node];
+                int first = (p == NIL) ? minimum : child[p];
+                if (rightSibling[node] != first) {
+                    node = rightSibling[node];
+                    break;
+                }
+                if (p == NIL) {
+                    node = NIL;
+                    break;
+                }
+                node = p;
+            }
+        }
+        minimum = NIL;
+        numberOfNodes = 0;
+    }
+
+
+    /**
+     * Returns whether the vertex is currently in the heap.
+     * @param v vertex number
+     * @return true if the vertex is in the heap
+     */
+    @Override
+    public final boolean contains(final int v) {
+        return inHeap[v];
+    }
+
+
+    /**
+     * getter for the key value of a vertex.
+     * @param v vertex number
+     * @return key value of the vertex
+     */
+    public final int getKeyValue(final int v) {
+        return keyValue[v];
+    }
+
+
+    /**
+     * Insert a vertex in the fibonacci heap.
+     * @param v vertex number of the new node
+     * @param keyVal key value of the new node
+     */
+    @Override
+    public final void insert(final int v, final int keyVal) {
+        parent[v] = NIL;
+        child[v] = NIL;
+        leftSibling[v] = v;
+        rightSibling[v] = v;
+        degree[v] = 0;
+        keyValue[v] = keyVal;
+        childCut[v] = false;
+        inHeap[v] = true;
+
+        minimum = meld(minimum, v);
+
+        ++numberOfNodes;
+    }
+
+
+    /**
+     * Melds two circular doubly linked lists into one list.
+     * @param list1 first doubly linked list
+     * @param list2 second doubly linked list
+     * @return the node with the smaller key of the two
+     */
+    private int meld(final int list1, final int list2) {
+        if (list1 == NIL) {
+            return list2;
+        } else if (list2 == NIL) {
+            return list1;
+        }
+        int next = rightSibling[list1];
+        rightSibling[list1] = rightSibling[list2];
+        leftSibling[rightSibling[list1]] = list1;
+        rightSibling[list2] = next;
+        leftSibling[next] = list2;
+
+        if (keyValue[list1] < keyValue[list2]) {
+            return list1;
+        } else {
+            return list2;
+        }
+    }
+
+
+    /**
+     * Return the current minimum vertex of the fibonacci heap.
+     * @return the minimum vertex without removing it, -1 if heap is empty
+     */
+    public final int returnMin() {
+        return minimum;
+    }
+
+
+    /**
+     * Returns true if the heap is empty.
+     * @return true if heap is empty
+     */
+    @Override
+    public final boolean isHeapEmpty() {
+        return minimum == NIL;
+    }
+
+
+    /**
+     * Function that removes the minimum node from the fibonacci heap.
+     * This function also does a consolidate which helps to bring down
+     * amortized complexity of remove minimum to O(log n)
+     * @return the minimum vertex
+     * @throws Exception when encountered with exceptional cases
+     */
+    @Override
+    public final int removeMin() throws Exception {
+        if (isHeapEmpty()) {
+            throw new Exception("Cannot remove minimum from empty heap");
+        }
+
+        int minNode = minimum;
+        --numberOfNodes;
+        inHeap[minNode] = false;
+
+        if (rightSibling[minNode] == minNode) {
+            minimum = NIL;
+        } else {
+            rightSibling[leftSibling[minNode]] = rightSibling[minNode];
+            leftSibling[rightSibling[minNode]] = leftSibling[minNode];
+            minimum = rightSibling[minNode];
+        }
+
+        int c = child[minNode];
+        if (c != NIL) {
+            do {
+                parent[c] = NIL;
+                c = rightSibling[c];
+            } while (c != child[minNode]);
+        }
+
+        minimum = meld(minimum, child[minNode]);
+        if (minimum == NIL) {
+            return minNode;
+        }
+
+        consolidate();
+        return minNode;
+    }
+
+
+    /**
+     * Consolidate the fibonacci tree.
+     * Every root is detached from the root list and linked with the root
+     * of equal degree found in the degree table, the table then holds
+     * the new root list. This contributes to the better amortized
+     * complexity of the remove min functionality.
+     */
+    private void consolidate() {
+        int roots = 0;
+        int n = minimum;
+        do {
+            roots++;
+            n = rightSibling[n];
+        } while (n != minimum);
+
+        int maxDegree = 0;
+        int next = minimum;
+        for (int i = 0; i < roots; i++) {
+            n = next;
+            next = rightSibling[n];
+            leftSibling[n] = n;
+            rightSibling[n] = n;
+            while (degreeTable[degree[n]] != NIL) {
+                int temp = degreeTable[degree[n]];
+                degreeTable[degree[n]] = NIL;
+
+                int min;
+                int max;
+                if (keyValue[temp] < keyValue[n]) {
+                    min = temp;
+                    max = n;
+                } else {
+                    min = n;
+                    max = temp;
+                }
+
+                child[min] = meld(child[min], max);
+                parent[max] = min;
+                childCut[max] = false;
+                ++degree[min];
+
+                n = min;
+            }
+            degreeTable[degree[n]] = n;
+            if (degree[n] > maxDegree) {
+                maxDegree = degree[n];
+            }
+        }
+
+        minimum = NIL;
+        for (int d = 0; d <= maxDegree; d++) {
+            if (degreeTable[d] != NIL) {
+                minimum = meld(minimum, degreeTable[d]);
+                degreeTable[d] = NIL;
+            }
+        }
+    }
+
+
+    /**
+     * This function decreases the key for a vertex.
+     * @param v vertex number
+     * @param keyVal new key value
+     */
+    @Override
+    public final void decreaseKey(final int v, final int keyVal) {
+        keyValue[v] = keyVal;
+
+        if (parent[v] != NIL && keyValue[v] <= keyValue[parent[v]]) {
+            removeParentConnection(v);
+        }
+
+        if (keyValue[v] <= keyValue[minimum]) {
+            minimum = v;
+        }
+    }
+
+
+    /**
+     * Removes the connection of the child node from its parent and
+     * continues with the cascading cut up the tree.
+     * @param v the child vertex
+     */
+    private void removeParentConnection(final int v) {
+        int node = v;
+        while (parent[node] != NIL) {
+            int p = parent[node];
+            childCut[node] = false;
+
+            if (rightSibling[node] != node) {
+                leftSibling[rightSibling[node]] = leftSibling[node];
+                rightSibling[leftSibling[node]] = rightSibling[node];
+            }
+
+            if (child[p] == node) {
+                if (rightSibling[node] != node) {
+                    child[p] = rightSibling[node];
+                } else {
+                    child[p] = NIL;
+                }
+            }
+
+            --degree[p];
+
+            leftSibling[node] = node;
+            rightSibling[node] = node;
+            minimum = meld(minimum, node);
+            parent[node] = NIL;
+
+            if (!childCut[p]) {
+                childCut[p] = true;
+                return;
+            }
+            node = p;
+        }
+        childCut[node] = false;
+    }
+
+
+    /**
+     * Deletes an arbitrary vertex from the fibonacci heap.
+     * @param v vertex number
+     * @return the vertex which is deleted
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final int deleteNode(final int v) throws Exception {
+
+        decreaseKey(v, Integer.MIN_VALUE);
+
+        return removeMin();
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class to run the shortest path algorithm from many sources.
+ * The sources are split over the threads of a ForkJoinPool. Every
+ * worker thread keeps one DijikstraEngine, with its queue and cost
+ * array, and reuses it for all the sources it runs, so nothing is
+ * allocated per source. Each row is handed to a RowSink as soon as it
+ * is computed, the n x n cost matrix is never held in memory.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class ManySourceRunner {
+
+    /**
+     * Static String for Algorithm exception.
+     */
+    private static final String RUN_EXCEPTION = "Many source run failed";
+    /**
+     * STATIC int for the most sources run by one task without
+     * splitting it further.
+     */
+    private static final int SPLIT_THRESHOLD = 4;
+
+
+    /**
+     * Constructor used to run with fibonacci heaps on all processors.
+     * @param g graph snapshot on which algorithm is run
+     */
+    public ManySourceRunner(ICsrGraph g) {
+        this(g, QueueType.FIBONACCI, Runtime.getRuntime().availableProcessors());
+    }
+
+
+    /**
+     * Constructor used to run with the given queue and workers.
+     * @param g graph snapshot on which algorithm is run
+     * @param type type of priority queue used by every worker
+     * @param threads number of worker threads
+     */
+    public ManySourceRunner(final ICsrGraph g, final QueueType type, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Wrong arguments in input");
+        }
+        this.myGraph = g;
+        this.pool = new ForkJoinPool(threads);
+        this.scratch = new ThreadLocal<DijikstraEngine>() {
+            @Override
+            protected DijikstraEngine initialValue() {
+                DijikstraEngine engine = new DijikstraEngine(g, type);
+                engine.setLazyInsertion(true);
+                return engine;
+            }
+        };
+    }
+
+
+    /**
+     * Graph Object.
+     */
+    private ICsrGraph myGraph;
+    /**
+     * Worker threads of the runner.
+     */
+    private ForkJoinPool pool;
+    /**
+     * Engine of every worker thread.
+     */
+    private ThreadLocal<DijikstraEngine> scratch;
+
+
+    /**
+     * Runs the algorithm from every vertex of the graph.
+     * @param sink receiver of the rows
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void runAllPairs(final RowSink sink) throws Exception {
+        int[] sources = new int[this.myGraph.getNumberOfVertices()];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = i;
+        }
+        runSources(sources, sink);
+    }
+
+
+    /**
+     * Runs the algorithm from every given source.
+     * @param sources source nodes in the graph
+     * @param sink receiver of the rows
+     * @throws Exception when encountered with exceptional cases
+     */
+    public final void runSources(final int[] sources, final RowSink sink)
+            throws Exception {
+        try {
+            this.pool.invoke(new SourceTask(sources, 0, sources.length, sink));
+        } catch (IllegalStateException ex) {
+            if (ex.getCause() instanceof Exception) {
+                throw new Exception(RUN_EXCEPTION, ex.getCause());
+            }
+            throw ex;
+        }
+    }
+
+
+    /**
+     * Stops the worker threads, the runner cannot run afterwards.
+     */
+    public final void shutdown() {
+        this.pool.shutdown();
+    }
+
+
+    /**
+     * Task running the algorithm from a range of sources.
+     */
+    private final class SourceTask extends RecursiveAction {
+
+        /**
+         * Serial version of the task.
+         */
+        private static final long serialVersionUID = 1L;
+        /**
+         * Source nodes of the run.
+         */
+        private final int[] sources;
+        /**
+         * First position of the range.
+         */
+        private final int from;
+        /**
+         * Position after the range.
+         */
+        private final int to;
+        /**
+         * Receiver of the rows.
+         */
+        private final RowSink sink;
+
+
+        /**
+         * Constructor of a task.
+         * @param list source nodes of the run
+         * @param lo first position of the range
+         * @param hi position after the range
+         * @param out receiver of the rows
+         */
+        SourceTask(final int[] list, final int lo, final int hi, final RowSink out) {
+            this.sources = list;
+            this.from = lo;
+            this.to = hi;
+            this.sink = out;
+        }
+
+
+        /**
+         * Splits the range or runs its sources.
+         */
+        @Override
+        protected void compute() {
+            if (this.to - this.from > SPLIT_THRESHOLD) {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(new SourceTask(this.sources, this.from, mid, this.sink),
+                        new SourceTask(this.sources, mid, this.to, this.sink));
+                return;
+            }
+            DijikstraEngine engine = scratch.get();
+            try {
+                for (int i = this.from; i < this.to; i++) {
+                    engine.run(this.sources[i]);
+                    this.sink.acceptRow(this.sources[i], engine.getDistances());
+                }
+            } catch (Exception ex) {
+                throw new IllegalStateException(RUN_EXCEPTION, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+import java.nio.IntBuffer;
+
+/**
+ * Read only compressed sparse row graph backed by memory mapped buffers.
+ * The offsets, targets and costs sections of a binary graph file are
+ * viewed in place as int buffers, so opening a graph does not parse or
+ * copy the edges and the pages are loaded by the operating system the
+ * first time a search touches them.
+ * Instances are created by BinaryGraphFile.open.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class MappedCsrGraph implements ICsrGraph {
+
+    /**
+     * Constructor that wraps the mapped sections of a binary graph file.
+     * @param n number of vertices
+     * @param m number of half edges
+     * @param maxCost largest edge cost
+     * @param source source vertex stored in the file
+     * @param isDirected whether every edge is stored only at its first
+     * end point
+     * @param off start position of the neighbors of every vertex, size n + 1
+     * @param tgt neighbor vertex of every half edge
+     * @param cst cost of every half edge
+     */
+    MappedCsrGraph(final int n, final int m, final int maxCost,
+            final int source, final boolean isDirected, final IntBuffer off, final IntBuffer tgt,
+            final IntBuffer cst) {
+        this.numberOfVertices = n;
+        this.numberOfHalfEdges = m;
+        this.maxEdgeCost = maxCost;
+        this.sourceNode = source;
+        this.directed = isDirected;
+        this.offsets = off;
+        this.targets = tgt;
+        this.costs = cst;
+    }
+
+
+    /**
+     * Hold the number of vertices of the graph.
+     */
+    private final int numberOfVertices;
+    /**
+     * Hold the number of half edges of the graph.
+     */
+    private final int numberOfHalfEdges;
+    /**
+     * Largest edge cost of the graph, 0 for a graph without edges.
+     */
+    private final int maxEdgeCost;
+    /**
+     * Source vertex stored in the file.
+     */
+    private final int sourceNode;
+    /**
+     * Whether every edge is an arc stored only at its first end point.
+     */
+    private final boolean directed;
+    /**
+     * Start position of the neighbors of every vertex, size n + 1.
+     */
+    private final IntBuffer offsets;
+    /**
+     * Neighbor vertex of every half edge.
+     */
+    private final IntBuffer targets;
+    /**
+     * Cost of every half edge.
+     */
+    private final IntBuffer costs;
+
+
+    /**
+     * getter for the source vertex stored in the file.
+     * @return source vertex
+     */
+    public final int getSourceNode() {
+        return this.sourceNode;
+    }
+
+
+    /**
+     * getter for number of vertices.
+     * @return number of vertices
+     */
+    @Override
+    public final int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+
+    /**
+     * getter for number of half edges.
+     * @return number of half edges
+     */
+    @Override
+    public final int getNumberOfHalfEdges() {
+        return this.numberOfHalfEdges;
+    }
+
+
+    /**
+     * getter for the largest edge cost.
+     * @return largest edge cost, 0 for a graph without edges
+     */
+    @Override
+    public final int getMaxEdgeCost() {
+        return this.maxEdgeCost;
+    }
+
+
+    /**
+     * Returns whether every edge is stored only at its first end point,
+     * as given by the flags of the file.
+     * @return true for a directed graph
+     */
+    @Override
+    public final boolean isDirected() {
+        return this.directed;
+    }
+
+
+    /**
+     * Position of the first half edge of a vertex.
+     * @param v vertex number
+     * @return index of the first half edge of v
+     */
+    @Override
+    public final int edgeBegin(final int v) {
+        return this.offsets.get(v);
+    }
+
+
+    /**
+     * Position after the last half edge of a vertex.
+     * @param v vertex number
+     * @return index one past the last half edge of v
+     */
+    @Override
+    public final int edgeEnd(final int v) {
+        return this.offsets.get(v + 1);
+    }
+
+
+    /**
+     * Neighbor vertex of a half edge.
+     * @param e half edge index
+     * @return neighbor vertex number
+     */
+    @Override
+    public final int edgeTarget(final int e) {
+        return this.targets.get(e);
+    }
+
+
+    /**
+     * Cost of a half edge.
+     * @param e half edge index
+     * @return cost of the edge
+     */
+    @Override
+    public final int edgeCost(final int e) {
+        return this.costs.get(e);
+    }
+
+
+    /**
+     * Check whether every vertex is reachable from the source.
+     * @param s source vertex
+     * @return true when graph is properly connected.
+     */
+    @Override
+    public final boolean isConnected(final int s) {
+        boolean[] visited = new boolean[this.numberOfVertices];
+        int[] stck = new int[this.numberOfVertices];
+        int top = 0;
+        int visitedCount = 1;
+        visited[s] = true;
+        stck[top++] = s;
+        while (top > 0) {
+            int vertex = stck[--top];
+            int end = this.offsets.get(vertex + 1);
+            for (int e = this.offsets.get(vertex); e < end; e++) {
+                int v = this.targets.get(e);
+                if (!visited[v]) {
+                    visited[v] = true;
+                    visitedCount++;
+                    stck[top++] = v;
+                }
+            }
+        }
+        return visitedCount == this.numberOfVertices;
+    }
+}
@@ -0,0 +1,242 @@
+/**
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+
+
+/**
+ * Class to represent a pairing heap over the vertex numbers 0 to n - 1.
+ * The tree links are kept in primitive arrays indexed by the vertex
+ * number. Every node points to its leftmost child and its right sibling,
+ * the prev link points to the left sibling or to the parent for the
+ * leftmost child. removeMin uses the two pass pairing.
+ * @author Sakthivel Manikam Arunachalam
+ * @version 1.0
+ */
+public class PairingHeap implements DecreaseKeyQueue {
+
+    /**
+     * STATIC int marking a missing link.
+     */
+    private static final int NIL = -1;
+
+    /**
+     * Constructor to initialize a new pairing heap.
+     * @param n number of vertices that can be stored in the heap
+     */
+    public PairingHeap(final int n) {
+        this.keyValue = new int[n];
+        this.child = new int[n];
+        this.sibling = new int[n];
+        this.prev = new int[n];
+        this.inHeap = new boolean[n];
+        this.pairs = new int[n];
+        this.root = NIL;
+        this.numberOfNodes = 0;
+    }
+
+
+    /**
+     * Key value of every node.
+     */
+    private final int[] keyValue;
+    /**
+     * Leftmost child of every node.
+     */
+    private final int[] child;
+    /**
+     * Right sibling of every node.
+     */
+    private final int[] sibling;
+    /**
+     * Left sibling of every node, or the parent for a leftmost child.
+     */
+    private final int[] prev;
+    /**
+     * Whether the vertex is currently in the heap.
+     */
+    private final boolean[] inHeap;
+    /**
+     * Scratch buffer for the sub trees combined by removeMin.
+     */
+    private final int[] pairs;
+    /**
+     * Root of the heap, the vertex with the minimum key.
+     */
+    private int root;
+    /**
+     * number of nodes currently in the heap.
+     */
+    private int numberOfNodes;
+
+
+    /**
+     * getter for number of nodes.
+     * @return numberOfNodes in the heap
+     */
+    public final int getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+
+    /**
+     * Insert a vertex in the heap.
+     * @param v vertex number
+     * @param keyVal key value of the vertex
+     */
+    @Override
+    public final void insert(final int v, final int keyVal) {
+        keyValue[v] = keyVal;
+        child[v] = NIL;
+        sibling[v] = NIL;
+        prev[v] = NIL;
+        inHeap[v] = true;
+        root = (root == NIL) ? v : link(root, v);
+        ++numberOfNodes;
+    }
+
+
+    /**
+     * Removes the vertex with the minimum key from the heap.
+     * @return the minimum vertex
+     * @throws Exception when the heap is empty
+     */
+    @Override
+    public final int removeMin() throws Exception {
+        if (root == NIL) {
+            throw new Exception("Cannot remove minimum from empty heap");
+        }
+        int minNode = root;
+        inHeap[minNode] = false;
+        --numberOfNodes;
+
+        int count = 0;
+        int c = child[minNode];
+        while (c != NIL) {
+            int next = sibling[c];
+            sibling[c] = NIL;
+            prev[c] = NIL;
+            pairs[count++] = c;
+            c = next;
+        }
+        child[minNode] = NIL;
+        if (count == 0) {
+            root = NIL;
+            return minNode;
+        }
+
+        //First pass links the sub trees in pairs from left to right
+        int merged = 0;
+        for (int i = 0; i + 1 < count; i += 2) {
+            pairs[merged++] = link(pairs[i], pairs[i + 1]);
+        }
+        if (count % 2 == 1) {
+            pairs[merged++] = pairs[count - 1];
+        }
+        //Second pass links the results from right to left
+        int result = pairs[merged - 1];
+        for (int i = merged - 2; i >= 0; i--) {
+            result = link(pairs[i], result);
+        }
+        root = result;
+        return minNode;
+    }
+
+
+    /**
+     * Decreases the key of a vertex in the heap.
+     * @param v vertex number
+     * @param keyVal new key value
+     */
+    @Override
+    public final void decreaseKey(final int v, final int keyVal) {
+        keyValue[v] = keyVal;
+        if (v == root) {
+            return;
+        }
+        int p = prev[v];
+        if (child[p] == v) {
+            child[p] = sibling[v];
+        } else {
+            sibling[p] = sibling[v];
+        }
+        if (sibling[v] != NIL) {
+            prev[sibling[v]] = p;
+        }
+        sibling[v] = NIL;
+        prev[v] = NIL;
+        root = link(root, v);
+    }
+
+
+    /**
+     * Returns whether the vertex is currently in the heap.
+     * @param v vertex number
+     * @return true if the vertex is in the heap
+     */
+    @Override
+    public final boolean contains(final int v) {
+        return inHeap[v];
+    }
+
+
+    /**
+     * Returns true if the heap is empty.
+     * @return true if heap is empty
+     */
+    @Override
+    public final boolean isHeapEmpty() {
+        return root == NIL;
+    }
+
+
+    /**
+     * Removes all vertices from the heap so it can be reused.
+     * The tree is walked with the pairs array as stack, so the cost is
+     * proportional to the vertices left in the heap.
+     */
+    @Override
+    public final void clear() {
+        int top = 0;
+        if (root != NIL) {
+            pairs[top++] = root;
+        }
+        while (top > 0) {
+            int v = pairs[--top];
+            inHeap[v] = false;
+            for (int c = child[v]; c != NIL; c = sibling[c]) {
+                pairs[top++] = c;
+            }
+        }
+        root = NIL;
+        numberOfNodes = 0;
+    }
+
+
+    /**
+     * Links two trees, the root with the larger key becomes the
+     * leftmost child of the other.
+     * @param a root of the first tree
+     * @param b root of the second tree
+     * @return root of the linked tree
+     */
+    private int link(final int a, final int b) {
+        int parent;
+        int sub;
+        if (keyValue[b] < keyValue[a]) {
+            parent = b;
+            sub = a;
+        } else {
+            parent = a;
+            sub = b;
+        }
+        int first = child[parent];
+        sibling[sub] = first;
+        if (first != NIL) {
+            prev[first] = sub;
+        }
+        prev[sub] = parent;
+        child[parent] = sub;
+        return parent;
+    }
+}